@@ -0,0 +1,64 @@
+package com.dill.minhasfinancas.api.resource;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.dill.minhasfinancas.api.dto.LancamentoDTO;
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversaoLancamentoBenchmark {
+
+	private static final byte[] JSON = ("{\"descricao\":\"Salario\",\"mes\":1,\"ano\":2024,\"valor\":3500.00,"
+			+ "\"usuario\":1,\"tipo\":\"RECEITA\",\"status\":\"PENDENTE\"}").getBytes();
+
+	private LancamentoResource resource;
+	private ObjectReader reader;
+	private LancamentoDTO dto;
+	private Usuario usuario;
+
+	@Setup
+	public void preparar() {
+		usuario = Usuario.builder().id(1L).nome("usuario").email("usuario@email.com").build();
+		resource = new LancamentoResource(null, null, null, null);
+		reader = Jackson2ObjectMapperBuilder.json().build().readerFor(LancamentoDTO.class);
+		dto = LancamentoDTO.builder()
+				.descricao("Salario")
+				.mes(1)
+				.ano(2024)
+				.valor(Dinheiro.deCentavos(350000))
+				.usuario(1L)
+				.tipo("RECEITA")
+				.status("PENDENTE")
+				.build();
+	}
+
+	@Benchmark
+	public Lancamento converter() {
+		return resource.converter(dto, usuario);
+	}
+
+	@Benchmark
+	public Lancamento lerEConverter() throws Exception {
+		return resource.converter(reader.<LancamentoDTO>readValue(JSON), usuario);
+	}
+}
@@ -0,0 +1,68 @@
+package com.dill.minhasfinancas.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dill.minhasfinancas.service.impl.SenhaServiceImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class AutenticacaoBenchmark {
+
+	@Param({"10", "12"})
+	private int custo;
+
+	private SenhaServiceImpl semCache;
+	private SenhaServiceImpl comCache;
+	private String hash;
+	private String hashComCache;
+
+	@Setup
+	public void preparar() {
+		semCache = new SenhaServiceImpl(custo, 0, Duration.ofMinutes(5), 1, 100);
+		comCache = new SenhaServiceImpl(custo, 10000, Duration.ofMinutes(5), 1, 100);
+		hash = semCache.codificar("senha123");
+		hashComCache = comCache.codificar("senha123");
+		comCache.verificar("senha123", hashComCache);
+	}
+
+	@TearDown
+	public void encerrar() {
+		semCache.destroy();
+		comCache.destroy();
+	}
+
+	@Benchmark
+	public boolean loginSemCache() {
+		return semCache.verificar("senha123", hash);
+	}
+
+	@Benchmark
+	public boolean loginRepetidoComCache() {
+		return comCache.verificar("senha123", hashComCache);
+	}
+
+	@Benchmark
+	public boolean loginLegadoEmTextoPuro() {
+		return semCache.verificar("senha123", "senha123");
+	}
+}
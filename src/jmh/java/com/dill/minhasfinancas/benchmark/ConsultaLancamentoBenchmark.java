@@ -0,0 +1,134 @@
+package com.dill.minhasfinancas.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dill.minhasfinancas.MinhasfinancasApplication;
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.SaldoUsuario;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.service.LancamentoService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConsultaLancamentoBenchmark {
+
+	private static final String[] DESCRICOES = {"Salario", "Aluguel", "Mercado", "Farmacia", "Combustivel",
+			"Energia", "Internet", "Restaurante", "Academia", "Transferencia"};
+	private static final int ANO_INICIAL = 2015;
+	private static final int ANOS = 10;
+	private static final int TAMANHO_LOTE = 5000;
+
+	@Param({"1000", "100000", "1000000"})
+	private int linhas;
+
+	private ConfigurableApplicationContext contexto;
+	private LancamentoService service;
+	private Lancamento filtroPorMes;
+	private Lancamento filtroPorDescricao;
+	private Long idUsuario;
+
+	@Setup(Level.Trial)
+	public void preparar() {
+		contexto = new SpringApplicationBuilder(MinhasfinancasApplication.class)
+				.web(WebApplicationType.NONE)
+				.profiles("test")
+				.properties("spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_ON_EXIT=FALSE;INIT=CREATE SCHEMA IF NOT EXISTS financas",
+						"spring.jpa.show-sql=false", "logging.level.root=WARN")
+				.run();
+		service = contexto.getBean(LancamentoService.class);
+		idUsuario = popular(contexto.getBean(JdbcTemplate.class));
+
+		Usuario usuario = Usuario.builder().id(idUsuario).build();
+		filtroPorMes = Lancamento.builder().usuario(usuario).ano(ANO_INICIAL + ANOS - 1).mes(6).build();
+		filtroPorDescricao = Lancamento.builder().usuario(usuario).descricao("merc").build();
+	}
+
+	@TearDown(Level.Trial)
+	public void encerrar() {
+		contexto.close();
+	}
+
+	@Benchmark
+	public List<Lancamento> buscarPorAnoEMes() {
+		return service.buscar(filtroPorMes);
+	}
+
+	@Benchmark
+	public List<Lancamento> buscarPorDescricao() {
+		return service.buscar(filtroPorDescricao);
+	}
+
+	@Benchmark
+	public List<LancamentoConsultaDTO> consultarPorAnoEMes() {
+		return service.consultar(filtroPorMes);
+	}
+
+	@Benchmark
+	public List<LancamentoConsultaDTO> consultarPorDescricao() {
+		return service.consultar(filtroPorDescricao);
+	}
+
+	@Benchmark
+	public BigDecimal obterSaldoPorUsuario() {
+		return service.obterSaldoPorUsuario(idUsuario);
+	}
+
+	private Long popular(JdbcTemplate jdbc) {
+		jdbc.update("INSERT INTO financas.usuario (nome, email, senha) VALUES ('benchmark', 'benchmark@email.com', 'senha')");
+		Long id = jdbc.queryForObject("SELECT MAX(id) FROM financas.usuario", Long.class);
+
+		List<Object[]> lote = new ArrayList<>(TAMANHO_LOTE);
+		for(int i = 0; i < linhas; i++) {
+			String tipo = i % 4 == 0 ? "RECEITA" : "DESPESA";
+			lote.add(new Object[] {(long) i + 1, DESCRICOES[i % DESCRICOES.length] + " " + i, i % 12 + 1,
+					ANO_INICIAL + (i / 12) % ANOS, id, BigDecimal.valueOf(100 + i % 5000, 2), tipo, "PENDENTE"});
+			if(lote.size() == TAMANHO_LOTE) {
+				inserir(jdbc, lote);
+			}
+		}
+		inserir(jdbc, lote);
+
+		jdbc.update("INSERT INTO financas.saldo_usuario (id_usuario, receitas, despesas, versao) "
+				+ "SELECT id_usuario, "
+				+ "COALESCE(SUM(CASE WHEN tipo = 'RECEITA' THEN valor END), 0), "
+				+ "COALESCE(SUM(CASE WHEN tipo = 'DESPESA' THEN valor END), 0), ? "
+				+ "FROM financas.lancamento WHERE id_usuario = ? GROUP BY id_usuario", SaldoUsuario.VERSAO_INICIAL, id);
+		jdbc.execute("ANALYZE");
+		return id;
+	}
+
+	private void inserir(JdbcTemplate jdbc, List<Object[]> lote) {
+		if(lote.isEmpty()) {
+			return;
+		}
+		jdbc.batchUpdate("INSERT INTO financas.lancamento (id, descricao, mes, ano, id_usuario, valor, tipo, status, data_cadastro) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_DATE)", lote);
+		lote.clear();
+	}
+}
@@ -0,0 +1,128 @@
+package com.dill.minhasfinancas.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DinheiroBenchmark {
+
+	private static final int QUANTIDADE = 1000;
+
+	private long[] centavos;
+	private BigDecimal[] decimais;
+	private Dinheiro[] valores;
+	private byte[] json;
+	private ObjectWriter writer;
+	private ObjectReader leitorDecimais;
+	private ObjectReader leitorValores;
+
+	@Setup
+	public void preparar() throws IOException {
+		Random random = new Random(42);
+		centavos = new long[QUANTIDADE];
+		decimais = new BigDecimal[QUANTIDADE];
+		valores = new Dinheiro[QUANTIDADE];
+		for(int i = 0; i < QUANTIDADE; i++) {
+			centavos[i] = random.nextInt(10_000_000);
+			decimais[i] = BigDecimal.valueOf(centavos[i], 2);
+			valores[i] = Dinheiro.deCentavos(centavos[i]);
+		}
+		ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+		writer = mapper.writer();
+		leitorDecimais = mapper.readerFor(BigDecimal[].class);
+		leitorValores = mapper.readerFor(Dinheiro[].class);
+		json = writer.writeValueAsBytes(decimais);
+	}
+
+	@Benchmark
+	public BigDecimal saldoComBigDecimal() {
+		BigDecimal saldo = BigDecimal.ZERO;
+		for(int i = 0; i < QUANTIDADE; i++) {
+			saldo = (i & 1) == 0 ? saldo.add(decimais[i]) : saldo.subtract(decimais[i]);
+		}
+		return saldo;
+	}
+
+	@Benchmark
+	public Dinheiro saldoComDinheiro() {
+		Dinheiro saldo = Dinheiro.ZERO;
+		for(int i = 0; i < QUANTIDADE; i++) {
+			saldo = (i & 1) == 0 ? saldo.somar(valores[i]) : saldo.subtrair(valores[i]);
+		}
+		return saldo;
+	}
+
+	@Benchmark
+	public int validarComBigDecimal() {
+		int validos = 0;
+		for(BigDecimal valor : decimais) {
+			if(valor.compareTo(BigDecimal.ZERO) > 0) {
+				validos++;
+			}
+		}
+		return validos;
+	}
+
+	@Benchmark
+	public int validarComDinheiro() {
+		int validos = 0;
+		for(Dinheiro valor : valores) {
+			if(valor.isPositivo()) {
+				validos++;
+			}
+		}
+		return validos;
+	}
+
+	@Benchmark
+	public byte[] serializarBigDecimal() throws IOException {
+		BigDecimal[] lidos = new BigDecimal[QUANTIDADE];
+		for(int i = 0; i < QUANTIDADE; i++) {
+			lidos[i] = BigDecimal.valueOf(centavos[i], 2);
+		}
+		return writer.writeValueAsBytes(lidos);
+	}
+
+	@Benchmark
+	public byte[] serializarDinheiro() throws IOException {
+		Dinheiro[] lidos = new Dinheiro[QUANTIDADE];
+		for(int i = 0; i < QUANTIDADE; i++) {
+			lidos[i] = Dinheiro.deCentavos(centavos[i]);
+		}
+		return writer.writeValueAsBytes(lidos);
+	}
+
+	@Benchmark
+	public BigDecimal[] desserializarBigDecimal() throws IOException {
+		return leitorDecimais.readValue(json);
+	}
+
+	@Benchmark
+	public Dinheiro[] desserializarDinheiro() throws IOException {
+		return leitorValores.readValue(json);
+	}
+}
@@ -0,0 +1,105 @@
+package com.dill.minhasfinancas.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.dill.minhasfinancas.analise.SegmentoLancamentos;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelatorioAnualBenchmark {
+
+	private static final int ANO_INICIAL = 2020;
+	private static final int ANOS = 5;
+
+	@Param({ "1000", "100000" })
+	private int quantidade;
+
+	private List<Lancamento> lancamentos;
+	private BigDecimal[] valores;
+	private SegmentoLancamentos segmento;
+
+	@Setup
+	public void preparar() {
+		Random random = new Random(42);
+		lancamentos = new ArrayList<>(quantidade);
+		valores = new BigDecimal[quantidade];
+		SegmentoLancamentos.Construtor construtor = SegmentoLancamentos.construtor(0);
+		for(int i = 0; i < quantidade; i++) {
+			int posicao = i * ANOS * 12 / quantidade;
+			Lancamento lancamento = Lancamento.builder()
+					.ano(ANO_INICIAL + posicao / 12)
+					.mes(posicao % 12 + 1)
+					.valor(BigDecimal.valueOf(random.nextInt(1_000_000), 2))
+					.tipo(TipoLancamento.values()[random.nextInt(2)])
+					.status(StatusLancamento.values()[random.nextInt(3)])
+					.build();
+			lancamentos.add(lancamento);
+			valores[i] = lancamento.getValor().paraBigDecimal();
+			construtor.adicionar(lancamento.getAno(), lancamento.getMes(), lancamento.getValor(),
+					lancamento.getTipo(), lancamento.getStatus());
+		}
+		segmento = construtor.construir();
+	}
+
+	@Benchmark
+	public void relatorioComBigDecimal(Blackhole blackhole) {
+		int ano = ANO_INICIAL + ANOS - 1;
+		BigDecimal saldo = BigDecimal.ZERO;
+		BigDecimal[] receitas = new BigDecimal[12];
+		BigDecimal[] despesas = new BigDecimal[12];
+		for(int i = 0; i < 12; i++) {
+			receitas[i] = BigDecimal.ZERO;
+			despesas[i] = BigDecimal.ZERO;
+		}
+		for(int i = 0; i < valores.length; i++) {
+			Lancamento lancamento = lancamentos.get(i);
+			if(lancamento.getAno() < ano) {
+				saldo = lancamento.getTipo() == TipoLancamento.RECEITA ? saldo.add(valores[i]) : saldo.subtract(valores[i]);
+			}else if(lancamento.getAno() == ano) {
+				int indice = lancamento.getMes() - 1;
+				if(lancamento.getTipo() == TipoLancamento.RECEITA) {
+					receitas[indice] = receitas[indice].add(valores[i]);
+				}else {
+					despesas[indice] = despesas[indice].add(valores[i]);
+				}
+			}
+		}
+		BigDecimal[] saldos = new BigDecimal[12];
+		for(int i = 0; i < 12; i++) {
+			saldo = saldo.add(receitas[i]).subtract(despesas[i]);
+			saldos[i] = saldo;
+		}
+		blackhole.consume(saldos);
+	}
+
+	@Benchmark
+	public void relatorioComSegmento(Blackhole blackhole) {
+		int ano = ANO_INICIAL + ANOS - 1;
+		long[] totais = segmento.totalizarPorMesETipo(ano);
+		blackhole.consume(segmento.acumularSaldoMensal(ano, totais));
+	}
+}
@@ -0,0 +1,114 @@
+package com.dill.minhasfinancas.benchmark;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dill.minhasfinancas.MinhasfinancasApplication;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.service.TokenService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequisicoesConcorrentesBenchmark {
+
+	private static final int LANCAMENTOS = 2400;
+
+	@Param({"plataforma", "virtual"})
+	private String modo;
+
+	@Param({"200"})
+	private int requisicoes;
+
+	private ConfigurableApplicationContext contexto;
+	private HttpClient cliente;
+	private List<HttpRequest> pedidos;
+
+	@Setup(Level.Trial)
+	public void preparar() {
+		List<String> perfis = new ArrayList<>(List.of("test"));
+		if(modo.equals("virtual")) {
+			perfis.add("virtual");
+		}
+		contexto = new SpringApplicationBuilder(MinhasfinancasApplication.class)
+				.profiles(perfis.toArray(new String[0]))
+				.run("--server.port=0",
+						"--server.tomcat.threads.max=20",
+						"--spring.datasource.hikari.maximum-pool-size=10",
+						"--spring.datasource.url=jdbc:h2:mem:carga;DB_CLOSE_ON_EXIT=FALSE;INIT=CREATE SCHEMA IF NOT EXISTS financas",
+						"--spring.jpa.show-sql=false",
+						"--logging.level.root=WARN");
+		Long idUsuario = popular(contexto.getBean(JdbcTemplate.class));
+		String token = contexto.getBean(TokenService.class).gerar(Usuario.builder().id(idUsuario).build());
+
+		int porta = ((ServletWebServerApplicationContext) contexto).getWebServer().getPort();
+		cliente = HttpClient.newHttpClient();
+		pedidos = new ArrayList<>(requisicoes);
+		for(int i = 0; i < requisicoes; i++) {
+			URI uri = URI.create("http://localhost:" + porta + "/api/lancamentos?usuario=" + idUsuario
+					+ "&ano=2024&mes=" + (i % 12 + 1));
+			pedidos.add(HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token).GET().build());
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void encerrar() {
+		contexto.close();
+	}
+
+	@Benchmark
+	public int rajadaDeConsultas() {
+		List<CompletableFuture<HttpResponse<Void>>> respostas = new ArrayList<>(requisicoes);
+		for(HttpRequest pedido : pedidos) {
+			respostas.add(cliente.sendAsync(pedido, HttpResponse.BodyHandlers.discarding()));
+		}
+		int erros = 0;
+		for(CompletableFuture<HttpResponse<Void>> resposta : respostas) {
+			if(resposta.join().statusCode() != 200) {
+				erros++;
+			}
+		}
+		return erros;
+	}
+
+	private Long popular(JdbcTemplate jdbc) {
+		jdbc.update("INSERT INTO financas.usuario (nome, email, senha) VALUES ('carga', 'carga@email.com', 'senha')");
+		Long id = jdbc.queryForObject("SELECT MAX(id) FROM financas.usuario", Long.class);
+		List<Object[]> linhas = new ArrayList<>(LANCAMENTOS);
+		for(int i = 0; i < LANCAMENTOS; i++) {
+			linhas.add(new Object[] {(long) i + 1, "Lancamento " + i, i % 12 + 1, 2024, id,
+					BigDecimal.valueOf(100 + i, 2), i % 4 == 0 ? "RECEITA" : "DESPESA", "PENDENTE"});
+		}
+		jdbc.batchUpdate("INSERT INTO financas.lancamento (id, descricao, mes, ano, id_usuario, valor, tipo, status, data_cadastro) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_DATE)", linhas);
+		return id;
+	}
+}
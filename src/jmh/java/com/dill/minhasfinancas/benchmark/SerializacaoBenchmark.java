@@ -0,0 +1,100 @@
+package com.dill.minhasfinancas.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+	private ObjectWriter writer;
+	private Usuario usuario;
+	private Lancamento lancamento;
+	private List<Lancamento> pagina;
+	private List<LancamentoConsultaDTO> paginaDeConsulta;
+
+	@Setup
+	public void preparar() {
+		writer = Jackson2ObjectMapperBuilder.json().build().writer();
+		usuario = Usuario.builder().id(1L).nome("usuario").email("usuario@email.com").senha("senha").build();
+		lancamento = criarLancamento(1L);
+		pagina = new ArrayList<>();
+		paginaDeConsulta = new ArrayList<>();
+		for(long i = 1; i <= 50; i++) {
+			Lancamento lancamento = criarLancamento(i);
+			pagina.add(lancamento);
+			paginaDeConsulta.add(LancamentoConsultaDTO.builder()
+					.id(lancamento.getId())
+					.descricao(lancamento.getDescricao())
+					.mes(lancamento.getMes())
+					.ano(lancamento.getAno())
+					.valor(lancamento.getValor())
+					.dataCadastro(lancamento.getDataCadastro())
+					.tipo(lancamento.getTipo())
+					.status(lancamento.getStatus())
+					.usuario(usuario.getId())
+					.build());
+		}
+	}
+
+	@Benchmark
+	public byte[] serializarUsuario() throws JsonProcessingException {
+		return writer.writeValueAsBytes(usuario);
+	}
+
+	@Benchmark
+	public byte[] serializarLancamento() throws JsonProcessingException {
+		return writer.writeValueAsBytes(lancamento);
+	}
+
+	@Benchmark
+	public byte[] serializarPaginaDeLancamentos() throws JsonProcessingException {
+		return writer.writeValueAsBytes(pagina);
+	}
+
+	@Benchmark
+	public byte[] serializarPaginaDeConsulta() throws JsonProcessingException {
+		return writer.writeValueAsBytes(paginaDeConsulta);
+	}
+
+	private Lancamento criarLancamento(long id) {
+		return Lancamento.builder()
+				.id(id)
+				.descricao("Lancamento " + id)
+				.mes((int) (id % 12) + 1)
+				.ano(2024)
+				.valor(BigDecimal.valueOf(id * 1234, 2))
+				.tipo(id % 3 == 0 ? TipoLancamento.RECEITA : TipoLancamento.DESPESA)
+				.status(StatusLancamento.PENDENTE)
+				.dataCadastro(LocalDate.of(2024, 1, 1))
+				.usuario(usuario)
+				.build();
+	}
+}
@@ -0,0 +1,69 @@
+package com.dill.minhasfinancas.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.service.impl.LancamentoServiceImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacaoLancamentoBenchmark {
+
+	private LancamentoServiceImpl service;
+	private Lancamento valido;
+	private Lancamento semValor;
+
+	@Setup
+	public void preparar() {
+		service = new LancamentoServiceImpl(null, null, null, null, null, 500);
+		valido = Lancamento.builder()
+				.descricao("Salario")
+				.mes(1)
+				.ano(2024)
+				.valor(BigDecimal.valueOf(3500))
+				.tipo(TipoLancamento.RECEITA)
+				.usuario(Usuario.builder().id(1L).build())
+				.build();
+		semValor = Lancamento.builder()
+				.descricao("Salario")
+				.mes(1)
+				.ano(2024)
+				.tipo(TipoLancamento.RECEITA)
+				.usuario(Usuario.builder().id(1L).build())
+				.build();
+	}
+
+	@Benchmark
+	public void validarLancamentoValido() {
+		service.validar(valido);
+	}
+
+	@Benchmark
+	public void validarLancamentoInvalido(Blackhole blackhole) {
+		try {
+			service.validar(semValor);
+		}catch(RegraNegocioException e) {
+			blackhole.consume(e);
+		}
+	}
+}
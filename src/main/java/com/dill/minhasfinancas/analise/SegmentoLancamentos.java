@@ -0,0 +1,164 @@
+package com.dill.minhasfinancas.analise;
+
+import java.util.Arrays;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+/**
+ * Lançamentos de um usuário em colunas de tipos primitivos, ordenados por ano e mês.
+ * Os valores ficam em centavos e os enums pelo ordinal, então as agregações são laços
+ * simples sobre arrays, sem objetos por linha.
+ */
+public final class SegmentoLancamentos {
+
+	public static final int MESES = 12;
+	public static final int TIPOS = TipoLancamento.values().length;
+	public static final int STATUS = StatusLancamento.values().length;
+
+	private static final byte DESPESA = (byte) TipoLancamento.DESPESA.ordinal();
+	private static final int BYTES_POR_LANCAMENTO = Long.BYTES + 2 * Short.BYTES + 2 * Byte.BYTES;
+
+	private final long versao;
+	private final int tamanho;
+	private final long[] centavos;
+	private final short[] anos;
+	private final short[] meses;
+	private final byte[] tipos;
+	private final byte[] status;
+
+	private SegmentoLancamentos(Construtor construtor) {
+		this.versao = construtor.versao;
+		this.tamanho = construtor.tamanho;
+		this.centavos = Arrays.copyOf(construtor.centavos, tamanho);
+		this.anos = Arrays.copyOf(construtor.anos, tamanho);
+		this.meses = Arrays.copyOf(construtor.meses, tamanho);
+		this.tipos = Arrays.copyOf(construtor.tipos, tamanho);
+		this.status = Arrays.copyOf(construtor.status, tamanho);
+	}
+
+	public static Construtor construtor(long versao) {
+		return new Construtor(versao);
+	}
+
+	public long getVersao() {
+		return versao;
+	}
+
+	public int getTamanho() {
+		return tamanho;
+	}
+
+	public int getTamanhoEmBytes() {
+		return tamanho * BYTES_POR_LANCAMENTO;
+	}
+
+	/**
+	 * Totais do ano indexados por {@code (mes - 1) * TIPOS + tipo.ordinal()}.
+	 */
+	public long[] totalizarPorMesETipo(int ano) {
+		long[] totais = new long[MESES * TIPOS];
+		int fim = inicioDoAno(ano + 1);
+		for(int i = inicioDoAno(ano); i < fim; i++) {
+			totais[(meses[i] - 1) * TIPOS + tipos[i]] += centavos[i];
+		}
+		return totais;
+	}
+
+	/**
+	 * Totais do ano indexados por {@code status.ordinal() * TIPOS + tipo.ordinal()}.
+	 */
+	public long[] totalizarPorStatusETipo(int ano) {
+		long[] totais = new long[STATUS * TIPOS];
+		int fim = inicioDoAno(ano + 1);
+		for(int i = inicioDoAno(ano); i < fim; i++) {
+			totais[status[i] * TIPOS + tipos[i]] += centavos[i];
+		}
+		return totais;
+	}
+
+	public long calcularSaldoAnteriorA(int ano) {
+		long saldo = 0;
+		int fim = inicioDoAno(ano);
+		for(int i = 0; i < fim; i++) {
+			long valor = centavos[i];
+			saldo += tipos[i] == DESPESA ? -valor : valor;
+		}
+		return saldo;
+	}
+
+	/**
+	 * Saldo acumulado ao fim de cada mês do ano, partindo do saldo dos anos anteriores.
+	 */
+	public long[] acumularSaldoMensal(int ano, long[] totaisPorMesETipo) {
+		long[] saldos = new long[MESES];
+		long saldo = calcularSaldoAnteriorA(ano);
+		for(int mes = 0; mes < MESES; mes++) {
+			int base = mes * TIPOS;
+			saldo += totaisPorMesETipo[base + TipoLancamento.RECEITA.ordinal()]
+					- totaisPorMesETipo[base + DESPESA];
+			saldos[mes] = saldo;
+		}
+		return saldos;
+	}
+
+	private int inicioDoAno(int ano) {
+		int inicio = 0;
+		int fim = tamanho;
+		while(inicio < fim) {
+			int meio = (inicio + fim) >>> 1;
+			if(anos[meio] < ano) {
+				inicio = meio + 1;
+			}else {
+				fim = meio;
+			}
+		}
+		return inicio;
+	}
+
+	public static class Construtor {
+
+		private static final int CAPACIDADE_INICIAL = 64;
+
+		private final long versao;
+		private int tamanho;
+		private long[] centavos = new long[CAPACIDADE_INICIAL];
+		private short[] anos = new short[CAPACIDADE_INICIAL];
+		private short[] meses = new short[CAPACIDADE_INICIAL];
+		private byte[] tipos = new byte[CAPACIDADE_INICIAL];
+		private byte[] status = new byte[CAPACIDADE_INICIAL];
+
+		private Construtor(long versao) {
+			this.versao = versao;
+		}
+
+		public Construtor adicionar(int ano, int mes, Dinheiro valor, TipoLancamento tipo, StatusLancamento status) {
+			if(tamanho > 0 && ano < anos[tamanho - 1]) {
+				throw new IllegalArgumentException("Os lançamentos devem ser adicionados em ordem de ano");
+			}
+			if(mes < 1 || mes > MESES) {
+				throw new IllegalArgumentException("Mês inválido: " + mes);
+			}
+			if(tamanho == centavos.length) {
+				int capacidade = tamanho * 2;
+				centavos = Arrays.copyOf(centavos, capacidade);
+				anos = Arrays.copyOf(anos, capacidade);
+				meses = Arrays.copyOf(meses, capacidade);
+				tipos = Arrays.copyOf(tipos, capacidade);
+				this.status = Arrays.copyOf(this.status, capacidade);
+			}
+			centavos[tamanho] = valor.getCentavos();
+			anos[tamanho] = (short) ano;
+			meses[tamanho] = (short) mes;
+			tipos[tamanho] = (byte) tipo.ordinal();
+			this.status[tamanho] = (byte) status.ordinal();
+			tamanho++;
+			return this;
+		}
+
+		public SegmentoLancamentos construir() {
+			return new SegmentoLancamentos(this);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.dill.minhasfinancas.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.dill.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
+import com.dill.minhasfinancas.service.TokenService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class AutenticacaoInterceptor implements HandlerInterceptor {
+
+	public static final String USUARIO_AUTENTICADO = "minhasfinancas.usuarioAutenticado";
+
+	private static final String BEARER = "Bearer ";
+
+	private final TokenService tokenService;
+
+	public AutenticacaoInterceptor(TokenService tokenService) {
+		this.tokenService = tokenService;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		if(HttpMethod.OPTIONS.matches(request.getMethod())) {
+			return true;
+		}
+		String autorizacao = request.getHeader(HttpHeaders.AUTHORIZATION);
+		Optional<UsuarioAutenticadoDTO> usuario = Optional.empty();
+		if(autorizacao != null && autorizacao.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+			usuario = tokenService.validar(autorizacao.substring(BEARER.length()).trim());
+		}
+		if(!usuario.isPresent()) {
+			response.setStatus(HttpStatus.UNAUTHORIZED.value());
+			response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+			response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+			response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+			response.getWriter().write("Token de acesso ausente, inválido ou expirado");
+			return false;
+		}
+		request.setAttribute(USUARIO_AUTENTICADO, usuario.get());
+		return true;
+	}
+}
@@ -0,0 +1,24 @@
+package com.dill.minhasfinancas.api;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.dill.minhasfinancas.service.TokenService;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+	private final TokenService tokenService;
+
+	public WebConfig(TokenService tokenService) {
+		this.tokenService = tokenService;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new AutenticacaoInterceptor(tokenService))
+			.addPathPatterns("/api/**")
+			.excludePathPatterns("/api/usuarios", "/api/usuarios/autenticar");
+	}
+}
@@ -0,0 +1,20 @@
+package com.dill.minhasfinancas.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AtualizaStatusLoteDTO {
+	private String status;
+	private String statusAtual;
+	private Integer ano;
+	private Integer mes;
+	private List<Long> ids;
+}
@@ -0,0 +1,11 @@
+package com.dill.minhasfinancas.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ConteudoVersionadoDTO<T> {
+	private long versao;
+	private T conteudo;
+}
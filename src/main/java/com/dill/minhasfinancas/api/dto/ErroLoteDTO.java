@@ -0,0 +1,13 @@
+package com.dill.minhasfinancas.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ErroLoteDTO {
+	private int linha;
+	private String mensagem;
+}
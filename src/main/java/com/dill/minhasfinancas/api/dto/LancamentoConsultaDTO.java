@@ -0,0 +1,29 @@
+package com.dill.minhasfinancas.api.dto;
+
+import java.time.LocalDate;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LancamentoConsultaDTO {
+	private Long id;
+	private String descricao;
+	private Integer mes;
+	private Integer ano;
+	private Dinheiro valor;
+	private LocalDate dataCadastro;
+	private TipoLancamento tipo;
+	private StatusLancamento status;
+	private Long usuario;
+	private Long versao;
+}
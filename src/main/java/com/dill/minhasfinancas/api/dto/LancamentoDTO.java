@@ -1,6 +1,6 @@
 package com.dill.minhasfinancas.api.dto;
 
-import java.math.BigDecimal;
+import com.dill.minhasfinancas.model.Dinheiro;
 
 import lombok.Builder;
 import lombok.Data;
@@ -12,8 +12,9 @@ public class LancamentoDTO {
 	private String descricao;
 	private Integer mes;
 	private Integer ano;
-	private BigDecimal valor;
+	private Dinheiro valor;
 	private Long usuario;
 	private String tipo;;
 	private String status;
+	private Long versao;
 }
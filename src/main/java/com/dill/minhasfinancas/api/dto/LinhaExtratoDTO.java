@@ -0,0 +1,21 @@
+package com.dill.minhasfinancas.api.dto;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LinhaExtratoDTO {
+	private Long id;
+	private String descricao;
+	private Integer mes;
+	private Integer ano;
+	private Dinheiro valor;
+	private TipoLancamento tipo;
+	private StatusLancamento status;
+	private Dinheiro saldo;
+}
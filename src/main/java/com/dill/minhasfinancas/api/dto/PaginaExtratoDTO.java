@@ -0,0 +1,19 @@
+package com.dill.minhasfinancas.api.dto;
+
+import java.util.List;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PaginaExtratoDTO {
+	private List<LinhaExtratoDTO> lancamentos;
+	private Dinheiro saldoAnterior;
+	private Dinheiro saldoFinal;
+	private long versao;
+	private String continuacao;
+	private boolean possuiProxima;
+}
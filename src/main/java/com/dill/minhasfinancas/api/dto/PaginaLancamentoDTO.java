@@ -0,0 +1,14 @@
+package com.dill.minhasfinancas.api.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PaginaLancamentoDTO {
+	private List<LancamentoConsultaDTO> lancamentos;
+	private String continuacao;
+	private boolean possuiProxima;
+}
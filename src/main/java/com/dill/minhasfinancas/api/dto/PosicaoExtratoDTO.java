@@ -0,0 +1,16 @@
+package com.dill.minhasfinancas.api.dto;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PosicaoExtratoDTO {
+	private Integer ano;
+	private Integer mes;
+	private Long id;
+	private Dinheiro saldo;
+	private long versao;
+}
@@ -0,0 +1,25 @@
+package com.dill.minhasfinancas.api.dto;
+
+import java.time.LocalDate;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecorrenciaDTO {
+	private Long id;
+	private String descricao;
+	private Dinheiro valor;
+	private String tipo;
+	private Integer anoInicio;
+	private Integer mesInicio;
+	private Integer intervaloMeses;
+	private LocalDate dataFim;
+}
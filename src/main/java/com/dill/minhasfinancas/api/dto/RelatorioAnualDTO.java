@@ -0,0 +1,18 @@
+package com.dill.minhasfinancas.api.dto;
+
+import java.util.List;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RelatorioAnualDTO {
+	private Integer ano;
+	private Dinheiro saldoInicial;
+	private Dinheiro saldoFinal;
+	private List<RelatorioMensalDTO> meses;
+	private List<RelatorioStatusDTO> status;
+}
@@ -0,0 +1,16 @@
+package com.dill.minhasfinancas.api.dto;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RelatorioMensalDTO {
+	private Integer mes;
+	private Dinheiro receitas;
+	private Dinheiro despesas;
+	private Dinheiro saldo;
+	private Dinheiro saldoAcumulado;
+}
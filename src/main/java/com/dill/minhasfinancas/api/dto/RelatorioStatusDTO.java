@@ -0,0 +1,15 @@
+package com.dill.minhasfinancas.api.dto;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RelatorioStatusDTO {
+	private StatusLancamento status;
+	private Dinheiro receitas;
+	private Dinheiro despesas;
+}
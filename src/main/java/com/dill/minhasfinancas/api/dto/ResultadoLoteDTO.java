@@ -0,0 +1,18 @@
+package com.dill.minhasfinancas.api.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class ResultadoLoteDTO {
+	private int total;
+	private int inseridos;
+	private int duplicados;
+	private List<ErroLoteDTO> erros = new ArrayList<>();
+	
+	public void adicionarErro(int linha, String mensagem) {
+		erros.add(new ErroLoteDTO(linha, mensagem));
+	}
+}
@@ -0,0 +1,15 @@
+package com.dill.minhasfinancas.api.dto;
+
+import java.math.BigDecimal;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ResumoMensalDTO {
+	private Integer mes;
+	private BigDecimal receitas;
+	private BigDecimal despesas;
+	private BigDecimal saldo;
+}
@@ -0,0 +1,13 @@
+package com.dill.minhasfinancas.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TokenDTO {
+	private Long id;
+	private String nome;
+	private String email;
+	private String token;
+}
@@ -0,0 +1,22 @@
+package com.dill.minhasfinancas.api.dto;
+
+import com.dill.minhasfinancas.model.entity.Usuario;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UsuarioAutenticadoDTO {
+	private Long id;
+	private String nome;
+	private String email;
+	
+	public boolean permiteAcessoA(Long idUsuario) {
+		return idUsuario == null || idUsuario.equals(id);
+	}
+	
+	public Usuario toUsuario() {
+		return Usuario.builder().id(id).nome(nome).email(email).build();
+	}
+}
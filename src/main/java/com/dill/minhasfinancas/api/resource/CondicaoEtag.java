@@ -0,0 +1,39 @@
+package com.dill.minhasfinancas.api.resource;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Confere o {@code If-None-Match} sem escrever o cabeçalho {@code ETag} na
+ * resposta, como faz o {@link WebRequest#checkNotModified(String)}: quando o
+ * conteúdo mudou, o ETag devolvido é o da versão lida junto com o corpo, não o
+ * da versão consultada antes dele.
+ */
+final class CondicaoEtag {
+
+	private CondicaoEtag() {
+	}
+
+	static boolean naoModificado(WebRequest requisicao, String etag) {
+		String seNenhumaCorresponder = requisicao.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if(seNenhumaCorresponder == null) {
+			return false;
+		}
+		for(String valor : seNenhumaCorresponder.split(",")) {
+			String candidata = valor.trim();
+			if(candidata.startsWith("W/")) {
+				candidata = candidata.substring(2);
+			}
+			if(candidata.equals("*") || candidata.equals("\"" + etag + "\"")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static ResponseEntity naoModificado(String etag) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+	}
+}
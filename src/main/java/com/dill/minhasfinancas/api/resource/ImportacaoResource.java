@@ -0,0 +1,70 @@
+package com.dill.minhasfinancas.api.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dill.minhasfinancas.api.AutenticacaoInterceptor;
+import com.dill.minhasfinancas.api.dto.ResultadoLoteDTO;
+import com.dill.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.importacao.FormatoExtrato;
+import com.dill.minhasfinancas.importacao.RegistroExtrato;
+import com.dill.minhasfinancas.service.ImportacaoExtratoService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/importacoes")
+@RequiredArgsConstructor
+public class ImportacaoResource {
+
+	private final ImportacaoExtratoService service;
+
+	@PostMapping
+	public ResponseEntity importar(@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestParam("formato") String formato,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado,
+			@RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String tipoConteudo,
+			InputStream corpo) throws IOException {
+		if(!usuarioAutenticado.permiteAcessoA(idUsuario)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Acesso negado aos lançamentos de outro usuário");
+		}
+		FormatoExtrato formatoExtrato;
+		try {
+			formatoExtrato = FormatoExtrato.valueOf(formato.toUpperCase());
+		}catch(IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body("Formato de extrato não suportado, informe OFX ou CSV");
+		}
+
+		Charset charset = formatoExtrato.getCharsetPadrao();
+		if(tipoConteudo != null) {
+			Charset charsetInformado = MediaType.parseMediaType(tipoConteudo).getCharset();
+			if(charsetInformado != null) {
+				charset = charsetInformado;
+			}
+		}
+
+		try {
+			Iterator<RegistroExtrato> registros = formatoExtrato.criarLeitor(new InputStreamReader(corpo, charset));
+			ResultadoLoteDTO resultado = service.importar(usuarioAutenticado.toUsuario(), registros);
+			return ResponseEntity.ok(resultado);
+		}catch(RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+}
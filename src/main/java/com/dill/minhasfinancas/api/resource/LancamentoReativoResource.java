@@ -0,0 +1,63 @@
+package com.dill.minhasfinancas.api.resource;
+
+import java.math.BigDecimal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dill.minhasfinancas.api.AutenticacaoInterceptor;
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.service.LancamentoReativoService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/reativo")
+@RequiredArgsConstructor
+public class LancamentoReativoResource {
+
+	private final LancamentoReativoService service;
+
+	@GetMapping(value = "/lancamentos", produces = "application/x-ndjson")
+	public ResponseEntity<Flux<LancamentoConsultaDTO>> buscar(
+			@RequestParam(value = "descricao", required = false) String descricao,
+			@RequestParam(value = "mes", required = false) Integer mes,
+			@RequestParam(value = "ano", required = false) Integer ano,
+			@RequestParam(value = "tipo", required = false) String tipo,
+			@RequestParam(value = "status", required = false) String status,
+			@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado
+			) {
+		if(!usuarioAutenticado.permiteAcessoA(idUsuario)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		Lancamento lancamentoFiltro;
+		try {
+			lancamentoFiltro = LancamentoResource.criarFiltro(descricao, mes, ano, tipo, status);
+		}catch(RegraNegocioException e) {
+			return ResponseEntity.badRequest().build();
+		}
+		lancamentoFiltro.setUsuario(usuarioAutenticado.toUsuario());
+		return ResponseEntity.ok(service.consultar(lancamentoFiltro));
+	}
+
+	@GetMapping("/usuarios/{id}/saldo")
+	public Mono<ResponseEntity<BigDecimal>> obterSaldo(@PathVariable("id") Long id,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
+		if(!usuarioAutenticado.permiteAcessoA(id)) {
+			return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+		}
+		return service.obterSaldoPorUsuario(id).map(ResponseEntity::ok);
+	}
+}
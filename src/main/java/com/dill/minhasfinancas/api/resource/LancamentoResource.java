@@ -1,30 +1,68 @@
 package com.dill.minhasfinancas.api.resource;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.dill.minhasfinancas.api.AutenticacaoInterceptor;
 import com.dill.minhasfinancas.api.dto.AtualizaStatusDTO;
+import com.dill.minhasfinancas.api.dto.AtualizaStatusLoteDTO;
+import com.dill.minhasfinancas.api.dto.ConteudoVersionadoDTO;
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
 import com.dill.minhasfinancas.api.dto.LancamentoDTO;
+import com.dill.minhasfinancas.api.dto.LinhaExtratoDTO;
+import com.dill.minhasfinancas.api.dto.PaginaExtratoDTO;
+import com.dill.minhasfinancas.api.dto.PaginaLancamentoDTO;
+import com.dill.minhasfinancas.api.dto.PosicaoExtratoDTO;
+import com.dill.minhasfinancas.api.dto.RecorrenciaDTO;
+import com.dill.minhasfinancas.api.dto.ResultadoAtualizacaoStatusDTO;
+import com.dill.minhasfinancas.api.dto.ResultadoLoteDTO;
+import com.dill.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
 import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.exceptions.VersaoDesatualizadaException;
+import com.dill.minhasfinancas.model.Dinheiro;
 import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.RecorrenciaLancamento;
 import com.dill.minhasfinancas.model.entity.Usuario;
 import com.dill.minhasfinancas.model.enums.StatusLancamento;
 import com.dill.minhasfinancas.model.enums.TipoLancamento;
 import com.dill.minhasfinancas.service.LancamentoService;
-import com.dill.minhasfinancas.service.UsuarioService;
+import com.dill.minhasfinancas.service.RecorrenciaLancamentoService;
+import com.dill.minhasfinancas.service.TokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.databind.SequenceWriter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,8 +71,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class LancamentoResource {
 	
+	private static final int TAMANHO_PAGINA_MAXIMO = 500;
+	private static final MediaType NDJSON = MediaType.valueOf("application/x-ndjson");
+	
 	private final LancamentoService service;
-	private final UsuarioService usuarioService;
+	private final RecorrenciaLancamentoService recorrenciaService;
+	private final ObjectMapper objectMapper;
+	private final TokenService tokenService;
 	
 
 	@GetMapping
@@ -42,28 +85,138 @@ public class LancamentoResource {
 			@RequestParam(value = "descricao", required = false) String descricao,
 			@RequestParam(value = "mes", required = false) Integer mes,
 			@RequestParam(value = "ano", required = false) Integer ano,
-			@RequestParam(value = "usuario") Long idUsuario
+			@RequestParam(value = "tipo", required = false) String tipo,
+			@RequestParam(value = "status", required = false) String status,
+			@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado,
+			WebRequest requisicao
 			) {
-		Lancamento lancamentoFiltro = new Lancamento();
-		lancamentoFiltro.setDescricao(descricao);
-		lancamentoFiltro.setMes(mes);
-		lancamentoFiltro.setAno(ano);
+		if(!usuarioAutenticado.permiteAcessoA(idUsuario)) {
+			return acessoNegado();
+		}
+		try {
+			Lancamento lancamentoFiltro = criarFiltro(descricao, mes, ano, tipo, status);
+			lancamentoFiltro.setUsuario(usuarioAutenticado.toUsuario());
+			String etagAtual = etag(usuarioAutenticado.getId(), service.obterVersaoPorUsuario(usuarioAutenticado.getId()));
+			if(CondicaoEtag.naoModificado(requisicao, etagAtual)) {
+				return CondicaoEtag.naoModificado(etagAtual);
+			}
+			ConteudoVersionadoDTO<List<LancamentoConsultaDTO>> lancamentos = service.consultarComVersao(lancamentoFiltro);
+			return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+					.eTag(etag(usuarioAutenticado.getId(), lancamentos.getVersao()))
+					.body(lancamentos.getConteudo());
+		}catch(RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+	
+	@GetMapping("/pagina")
+	public ResponseEntity buscarPagina(
+			@RequestParam(value = "descricao", required = false) String descricao,
+			@RequestParam(value = "mes", required = false) Integer mes,
+			@RequestParam(value = "ano", required = false) Integer ano,
+			@RequestParam(value = "tipo", required = false) String tipo,
+			@RequestParam(value = "status", required = false) String status,
+			@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado,
+			@RequestParam(value = "continuacao", required = false) String continuacao,
+			@RequestParam(value = "tamanho", defaultValue = "50") int tamanho
+			) {
+		if(!usuarioAutenticado.permiteAcessoA(idUsuario)) {
+			return acessoNegado();
+		}
+		
+		try {
+			Lancamento lancamentoFiltro = criarFiltro(descricao, mes, ano, tipo, status);
+			lancamentoFiltro.setUsuario(usuarioAutenticado.toUsuario());
+			KeysetScrollPosition posicao = decodificarContinuacao(continuacao);
+			int tamanhoPagina = Math.max(1, Math.min(tamanho, TAMANHO_PAGINA_MAXIMO));
+			Window<LancamentoConsultaDTO> pagina = service.consultarPagina(lancamentoFiltro, posicao, tamanhoPagina);
+			
+			String proximaContinuacao = null;
+			if(pagina.hasNext()) {
+				proximaContinuacao = codificarContinuacao(pagina.getContent().get(pagina.size() - 1));
+			}
+			return ResponseEntity.ok(PaginaLancamentoDTO.builder()
+					.lancamentos(pagina.getContent())
+					.continuacao(proximaContinuacao)
+					.possuiProxima(pagina.hasNext())
+					.build());
+		}catch(RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+	
+	@GetMapping("/extrato")
+	public ResponseEntity buscarExtrato(
+			@RequestParam(value = "ano", required = false) Integer ano,
+			@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado,
+			@RequestParam(value = "continuacao", required = false) String continuacao,
+			@RequestParam(value = "tamanho", defaultValue = "50") int tamanho
+			) {
+		if(!usuarioAutenticado.permiteAcessoA(idUsuario)) {
+			return acessoNegado();
+		}
 		
-		Optional<Usuario> usuario = usuarioService.obterPorId(idUsuario);
-		if(!usuario.isPresent()) {
-			return ResponseEntity.badRequest().body("Não foi possível realizar a consulta. Usuário não incontrado para o Id informado");
-		}else {
-			lancamentoFiltro.setUsuario(usuario.get());
+		try {
+			PosicaoExtratoDTO posicao = decodificarPosicaoExtrato(continuacao, usuarioAutenticado.getId());
+			int tamanhoPagina = Math.max(1, Math.min(tamanho, TAMANHO_PAGINA_MAXIMO));
+			PaginaExtratoDTO pagina = service.consultarExtrato(usuarioAutenticado.getId(), ano, posicao, tamanhoPagina);
+			if(pagina.isPossuiProxima()) {
+				LinhaExtratoDTO ultima = pagina.getLancamentos().get(pagina.getLancamentos().size() - 1);
+				pagina.setContinuacao(codificarPosicaoExtrato(ultima, pagina.getVersao(), usuarioAutenticado.getId()));
+			}
+			return ResponseEntity.ok(pagina);
+		}catch(RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
 		}
-		List<Lancamento> lancamentos = service.buscar(lancamentoFiltro);
-		return ResponseEntity.ok(lancamentos);
+	}
+	
+	@GetMapping(value = "/stream", produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> buscarEmFluxo(
+			@RequestParam(value = "descricao", required = false) String descricao,
+			@RequestParam(value = "mes", required = false) Integer mes,
+			@RequestParam(value = "ano", required = false) Integer ano,
+			@RequestParam(value = "tipo", required = false) String tipo,
+			@RequestParam(value = "status", required = false) String status,
+			@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado
+			) {
+		if(!usuarioAutenticado.permiteAcessoA(idUsuario)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		Lancamento lancamentoFiltro;
+		try {
+			lancamentoFiltro = criarFiltro(descricao, mes, ano, tipo, status);
+		}catch(RegraNegocioException e) {
+			return ResponseEntity.badRequest().build();
+		}
+		lancamentoFiltro.setUsuario(usuarioAutenticado.toUsuario());
+		
+		StreamingResponseBody corpo = saida -> {
+			try(SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(saida)) {
+				service.consultarEmFluxo(lancamentoFiltro, lancamento -> {
+					try {
+						writer.write(lancamento);
+					}catch(IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		};
+		return ResponseEntity.ok().contentType(NDJSON).body(corpo);
 	}
 	
 	@PostMapping
 	@ResponseStatus(HttpStatus.CREATED)
-	public ResponseEntity salvar(@RequestBody LancamentoDTO dto ) {
+	public ResponseEntity salvar(@RequestBody LancamentoDTO dto,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
+		if(!usuarioAutenticado.permiteAcessoA(dto.getUsuario())) {
+			return acessoNegado();
+		}
 		try {
-			Lancamento entidade = converter(dto);
+			Lancamento entidade = converter(dto, usuarioAutenticado.toUsuario());
 			service.salvar(entidade);
 			return ResponseEntity.ok(entidade);
 		}catch(RegraNegocioException e) {
@@ -73,31 +226,114 @@ public class LancamentoResource {
 	}
 	
 	
+	@PostMapping(value = "/lote", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson", "text/csv"})
+	public ResponseEntity salvarEmLote(@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado,
+			@RequestHeader(HttpHeaders.CONTENT_TYPE) String tipoConteudo, InputStream corpo) throws IOException {
+		if(!usuarioAutenticado.permiteAcessoA(idUsuario)) {
+			return acessoNegado();
+		}
+		Usuario usuario = usuarioAutenticado.toUsuario();
+		try {
+			Iterator<LancamentoDTO> dtos = new LeitorLoteLancamento(objectMapper).ler(corpo, MediaType.parseMediaType(tipoConteudo));
+			Iterator<Lancamento> lancamentos = new Iterator<Lancamento>() {
+				@Override
+				public boolean hasNext() {
+					return dtos.hasNext();
+				}
+
+				@Override
+				public Lancamento next() {
+					try {
+						return converter(dtos.next(), usuario);
+					}catch(IllegalArgumentException e) {
+						throw new RegraNegocioException("Tipo ou status de lançamento inválido");
+					}
+				}
+			};
+			ResultadoLoteDTO resultado = service.salvarEmLote(usuario, lancamentos);
+			return ResponseEntity.ok(resultado);
+		}catch(RegraNegocioException | RuntimeJsonMappingException e) {
+			return ResponseEntity.badRequest().body("Não foi possível ler o lote de lançamentos: " + e.getMessage());
+		}
+	}
+	
 	@PutMapping("{id}")	
-	public ResponseEntity atualizar(@PathVariable("id") Long id, @RequestBody LancamentoDTO dto) {
+	public ResponseEntity atualizar(@PathVariable("id") Long id, @RequestBody LancamentoDTO dto,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String versaoEsperada,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
 		return service.obterPorId(id).map(entity -> {
+			if(!pertence(entity, usuarioAutenticado) || !usuarioAutenticado.permiteAcessoA(dto.getUsuario())) {
+				return acessoNegado();
+			}
 			try{
-				Lancamento lancamento = converter(dto);
+				Long versao = dto.getVersao();
+				if(versaoEsperada != null) {
+					versao = versaoDoLancamento(versaoEsperada);
+					if(versao == null) {
+						versao = entity.getVersao();
+					}else if(!versao.equals(entity.getVersao())) {
+						return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+								.body("O lançamento foi alterado por outra requisição, consulte-o novamente");
+					}
+				}
+				if(versao == null) {
+					return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED)
+							.body("Informe a versão do lançamento no campo versao ou no cabeçalho If-Match");
+				}
+				Lancamento lancamento = converter(dto, usuarioAutenticado.toUsuario());
 				lancamento.setId(entity.getId());
-				service.atualizar(lancamento);
-				return ResponseEntity.ok(lancamento);
+				lancamento.setIdRecorrencia(entity.getIdRecorrencia());
+				lancamento.setVersao(versao);
+				Lancamento atualizado = service.atualizar(lancamento);
+				return ResponseEntity.ok().eTag(String.valueOf(atualizado.getVersao())).body(comUsuario(atualizado, usuarioAutenticado));
+			}catch(VersaoDesatualizadaException e) {
+				return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+			}catch(OptimisticLockingFailureException e) {
+				return conflitoDeVersao();
 			}catch(RegraNegocioException e){
 				return ResponseEntity.badRequest().body(e.getMessage());
 			}
 		}).orElseGet(()-> new ResponseEntity<String>("Lancamento não encontrado na base de Dados"
 				, HttpStatus.BAD_REQUEST));
 	}
+	@PatchMapping("{id}")
+	public ResponseEntity atualizarParcialmente(@PathVariable("id") Long id, @RequestBody LancamentoDTO dto,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String versaoEsperada,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
+		return service.obterPorId(id).map(entidade -> {
+			if(!pertence(entidade, usuarioAutenticado)) {
+				return acessoNegado();
+			}
+			try {
+				Long versao = versaoEsperada != null ? versaoDoLancamento(versaoEsperada) : dto.getVersao();
+				Lancamento lancamento = service.atualizarParcialmente(id, versao, alvo -> aplicarAlteracoes(dto, alvo));
+				return ResponseEntity.ok().eTag(String.valueOf(lancamento.getVersao())).body(comUsuario(lancamento, usuarioAutenticado));
+			}catch(VersaoDesatualizadaException e) {
+				return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+			}catch(OptimisticLockingFailureException e) {
+				return conflitoDeVersao();
+			}catch(RegraNegocioException e) {
+				return ResponseEntity.badRequest().body(e.getMessage());
+			}
+		}).orElseGet(()-> new ResponseEntity("Lancamento não encontrado na base de Dados"
+				, HttpStatus.BAD_REQUEST));
+	}
+	
 	@PutMapping("{id}/atualiza-status")
-	public ResponseEntity atualizarStatus(@PathVariable long id, @RequestBody AtualizaStatusDTO dto){
+	public ResponseEntity atualizarStatus(@PathVariable long id, @RequestBody AtualizaStatusDTO dto,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado){
 		return service.obterPorId(id).map(entity ->{
+			if(!pertence(entity, usuarioAutenticado)) {
+				return acessoNegado();
+			}
 			StatusLancamento statusSelecionado = StatusLancamento.valueOf(dto.getStatus());
 			if(statusSelecionado == null) {
 				return ResponseEntity.badRequest().body("Não foi possível atualizar o status do lançamentos, envie um status válido");
 			}
 			try {
-			entity.setStatus(statusSelecionado);
-			service.atualizar(entity);
-			return ResponseEntity.ok(entity);
+			service.atualizarStatus(entity, statusSelecionado);
+			return ResponseEntity.ok(comUsuario(entity, usuarioAutenticado));
 			}catch(RegraNegocioException e) {
 				return ResponseEntity.badRequest().body(e.getMessage());
 			}
@@ -106,25 +342,87 @@ public class LancamentoResource {
 		
 	}
 	
+	@PutMapping("atualiza-status")
+	public ResponseEntity atualizarStatusEmLote(@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestBody AtualizaStatusLoteDTO dto,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String versaoEsperada,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
+		if(!usuarioAutenticado.permiteAcessoA(idUsuario)) {
+			return acessoNegado();
+		}
+		try {
+			Lancamento lancamentoFiltro = criarFiltro(null, dto.getMes(), dto.getAno(), null, dto.getStatusAtual());
+			lancamentoFiltro.setUsuario(usuarioAutenticado.toUsuario());
+			StatusLancamento status = converterStatus(dto.getStatus());
+			ConteudoVersionadoDTO<Integer> atualizados = service.atualizarStatusEmLote(lancamentoFiltro, dto.getIds(), status,
+					versaoDe(versaoEsperada, usuarioAutenticado));
+			return ResponseEntity.ok().eTag(etag(usuarioAutenticado.getId(), atualizados.getVersao()))
+					.body(new ResultadoAtualizacaoStatusDTO(atualizados.getConteudo()));
+		}catch(VersaoDesatualizadaException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+		}catch(RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+	
+	@PostMapping("{id}/recorrencia")
+	public ResponseEntity criarRecorrencia(@PathVariable("id") Long id, @RequestBody RecorrenciaDTO dto,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
+		return service.obterPorId(id).map(entidade -> {
+			if(!pertence(entidade, usuarioAutenticado)) {
+				return acessoNegado();
+			}
+			try {
+				RecorrenciaLancamento recorrencia = recorrenciaService.criar(entidade, dto.getIntervaloMeses(), dto.getDataFim());
+				return new ResponseEntity(converter(recorrencia), HttpStatus.CREATED);
+			}catch(RegraNegocioException e) {
+				return ResponseEntity.badRequest().body(e.getMessage());
+			}
+		}).orElseGet(()-> new ResponseEntity("Lancamento não encontrado na base de Dados"
+				, HttpStatus.BAD_REQUEST));
+	}
+	
+	@PutMapping("{id}/recorrencia/encerramento")
+	public ResponseEntity encerrarRecorrencia(@PathVariable("id") Long id, @RequestBody RecorrenciaDTO dto,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
+		return service.obterPorId(id).map(entidade -> {
+			if(!pertence(entidade, usuarioAutenticado)) {
+				return acessoNegado();
+			}
+			if(entidade.getIdRecorrencia() == null) {
+				return ResponseEntity.badRequest().body("O lançamento não possui recorrência");
+			}
+			try {
+				return recorrenciaService.obterPorId(entidade.getIdRecorrencia())
+						.map(recorrencia -> ResponseEntity.ok(converter(recorrenciaService.encerrar(recorrencia, dto.getDataFim()))))
+						.orElseThrow(() -> new RegraNegocioException("Recorrência não encontrada na base de Dados"));
+			}catch(RegraNegocioException e) {
+				return ResponseEntity.badRequest().body(e.getMessage());
+			}
+		}).orElseGet(()-> new ResponseEntity("Lancamento não encontrado na base de Dados"
+				, HttpStatus.BAD_REQUEST));
+	}
+	
 	@DeleteMapping("{id}")
-	public ResponseEntity deletar(@PathVariable("id") Long id) {
+	public ResponseEntity deletar(@PathVariable("id") Long id,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
 		return service.obterPorId(id).map(entidade ->{
+			if(!pertence(entidade, usuarioAutenticado)) {
+				return acessoNegado();
+			}
 			service.deletar(entidade);
 			return new ResponseEntity(HttpStatus.NO_CONTENT);
 		}).orElseGet(()-> new ResponseEntity("Lancamento não encontrado na base de Dados"
 				, HttpStatus.BAD_REQUEST));
 	}
 	
-	private Lancamento converter(LancamentoDTO dto) {
+	Lancamento converter(LancamentoDTO dto, Usuario usuario) {
 		Lancamento lancamento = new Lancamento();
 		lancamento.setId(dto.getId());
 		lancamento.setDescricao(dto.getDescricao());
 		lancamento.setAno(dto.getAno());
 		lancamento.setMes(dto.getMes());
 		lancamento.setValor(dto.getValor());
-		
-		Usuario usuario = usuarioService.obterPorId(dto.getUsuario())
-		.orElseThrow(()-> new RegraNegocioException("Usuário não incontrado para o Id informado"));
 		lancamento.setUsuario(usuario);
 		if(dto.getTipo() != null) {
 			lancamento.setTipo(TipoLancamento.valueOf(dto.getTipo()));
@@ -138,4 +436,175 @@ public class LancamentoResource {
 		
 		
 	}
+	
+	private RecorrenciaDTO converter(RecorrenciaLancamento recorrencia) {
+		return RecorrenciaDTO.builder()
+				.id(recorrencia.getId())
+				.descricao(recorrencia.getDescricao())
+				.valor(recorrencia.getValor())
+				.tipo(recorrencia.getTipo().name())
+				.anoInicio(recorrencia.getAnoInicio())
+				.mesInicio(recorrencia.getMesInicio())
+				.intervaloMeses(recorrencia.getIntervaloMeses())
+				.dataFim(recorrencia.getDataFim())
+				.build();
+	}
+	
+	private void aplicarAlteracoes(LancamentoDTO dto, Lancamento lancamento) {
+		if(dto.getDescricao() != null) {
+			lancamento.setDescricao(dto.getDescricao());
+		}
+		if(dto.getAno() != null) {
+			lancamento.setAno(dto.getAno());
+		}
+		if(dto.getMes() != null) {
+			lancamento.setMes(dto.getMes());
+		}
+		if(dto.getValor() != null) {
+			lancamento.setValor(dto.getValor());
+		}
+		try {
+			if(dto.getTipo() != null) {
+				lancamento.setTipo(TipoLancamento.valueOf(dto.getTipo()));
+			}
+			if(dto.getStatus() != null) {
+				lancamento.setStatus(StatusLancamento.valueOf(dto.getStatus()));
+			}
+		}catch(IllegalArgumentException e) {
+			throw new RegraNegocioException("Tipo ou status de lançamento inválido");
+		}
+	}
+	
+	private boolean pertence(Lancamento lancamento, UsuarioAutenticadoDTO usuarioAutenticado) {
+		return lancamento.getUsuario() != null && usuarioAutenticado.getId().equals(lancamento.getUsuario().getId());
+	}
+	
+	// sem sessão aberta na requisição o usuário do lançamento é um proxy que não pode mais ser carregado
+	private Lancamento comUsuario(Lancamento lancamento, UsuarioAutenticadoDTO usuarioAutenticado) {
+		lancamento.setUsuario(usuarioAutenticado.toUsuario());
+		return lancamento;
+	}
+	
+	private ResponseEntity acessoNegado() {
+		return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Acesso negado aos lançamentos de outro usuário");
+	}
+	
+	private String etag(Long idUsuario, long versao) {
+		return idUsuario + "-" + versao;
+	}
+	
+	private ResponseEntity conflitoDeVersao() {
+		return ResponseEntity.status(HttpStatus.CONFLICT).body("O lançamento foi alterado por outra requisição, consulte-o novamente");
+	}
+	
+	static Lancamento criarFiltro(String descricao, Integer mes, Integer ano, String tipo, String status) {
+		Lancamento lancamentoFiltro = new Lancamento();
+		lancamentoFiltro.setDescricao(descricao);
+		lancamentoFiltro.setMes(mes);
+		lancamentoFiltro.setAno(ano);
+		try {
+			if(tipo != null) {
+				lancamentoFiltro.setTipo(TipoLancamento.valueOf(tipo.toUpperCase()));
+			}
+			if(status != null) {
+				lancamentoFiltro.setStatus(StatusLancamento.valueOf(status.toUpperCase()));
+			}
+		}catch(IllegalArgumentException e) {
+			throw new RegraNegocioException("Tipo ou status de lançamento inválido");
+		}
+		return lancamentoFiltro;
+	}
+	
+	private StatusLancamento converterStatus(String status) {
+		try {
+			return StatusLancamento.valueOf(String.valueOf(status).toUpperCase());
+		}catch(IllegalArgumentException e) {
+			throw new RegraNegocioException("Informe o status EFETIVADO ou CANCELADO");
+		}
+	}
+	
+	private Long versaoDe(String etag, UsuarioAutenticadoDTO usuarioAutenticado) {
+		if(etag == null || etag.isBlank() || etag.trim().equals("*")) {
+			return null;
+		}
+		String valor = valorDaEtag(etag);
+		String prefixo = usuarioAutenticado.getId() + "-";
+		if(!valor.startsWith(prefixo)) {
+			throw new VersaoDesatualizadaException("A versão informada não corresponde aos lançamentos do usuário");
+		}
+		try {
+			return Long.valueOf(valor.substring(prefixo.length()));
+		}catch(NumberFormatException e) {
+			throw new VersaoDesatualizadaException("A versão informada não corresponde aos lançamentos do usuário");
+		}
+	}
+	
+	private Long versaoDoLancamento(String etag) {
+		if(etag.isBlank() || etag.trim().equals("*")) {
+			return null;
+		}
+		try {
+			return Long.valueOf(valorDaEtag(etag));
+		}catch(NumberFormatException e) {
+			throw new VersaoDesatualizadaException("A versão informada não corresponde ao lançamento");
+		}
+	}
+	
+	private String valorDaEtag(String etag) {
+		String valor = etag.trim();
+		if(valor.startsWith("W/")) {
+			valor = valor.substring(2);
+		}
+		return valor.replace("\"", "");
+	}
+	
+	private String codificarContinuacao(LancamentoConsultaDTO ultimo) {
+		String chave = ultimo.getAno() + ":" + ultimo.getMes() + ":" + ultimo.getId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(chave.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	private KeysetScrollPosition decodificarContinuacao(String continuacao) {
+		if(continuacao == null || continuacao.isBlank()) {
+			return ScrollPosition.keyset();
+		}
+		try {
+			String[] partes = new String(Base64.getUrlDecoder().decode(continuacao), StandardCharsets.UTF_8).split(":");
+			Map<String, Object> chaves = new LinkedHashMap<>();
+			chaves.put("ano", Integer.valueOf(partes[0]));
+			chaves.put("mes", Integer.valueOf(partes[1]));
+			chaves.put("id", Long.valueOf(partes[2]));
+			return ScrollPosition.forward(chaves);
+		}catch(IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			throw new RegraNegocioException("Token de continuação inválido");
+		}
+	}
+	
+	private String codificarPosicaoExtrato(LinhaExtratoDTO ultima, long versao, Long idUsuario) {
+		String chave = ultima.getAno() + ":" + ultima.getMes() + ":" + ultima.getId()
+				+ ":" + ultima.getSaldo().getCentavos() + ":" + versao + ":" + idUsuario;
+		return tokenService.assinar(Base64.getUrlEncoder().withoutPadding().encodeToString(chave.getBytes(StandardCharsets.UTF_8)));
+	}
+	
+	private PosicaoExtratoDTO decodificarPosicaoExtrato(String continuacao, Long idUsuario) {
+		if(continuacao == null || continuacao.isBlank()) {
+			return null;
+		}
+		String conteudo = tokenService.verificarAssinatura(continuacao)
+				.orElseThrow(() -> new RegraNegocioException("Token de continuação inválido"));
+		try {
+			String[] partes = new String(Base64.getUrlDecoder().decode(conteudo), StandardCharsets.UTF_8).split(":");
+			if(!String.valueOf(idUsuario).equals(partes[5])) {
+				throw new RegraNegocioException("Token de continuação inválido");
+			}
+			return PosicaoExtratoDTO.builder()
+					.ano(Integer.valueOf(partes[0]))
+					.mes(Integer.valueOf(partes[1]))
+					.id(Long.valueOf(partes[2]))
+					.saldo(Dinheiro.deCentavos(Long.parseLong(partes[3])))
+					.versao(Long.parseLong(partes[4]))
+					.build();
+		}catch(IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			throw new RegraNegocioException("Token de continuação inválido");
+		}
+	}
 }
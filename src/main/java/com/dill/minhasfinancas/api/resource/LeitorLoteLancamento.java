@@ -0,0 +1,125 @@
+package com.dill.minhasfinancas.api.resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.springframework.http.MediaType;
+
+import com.dill.minhasfinancas.api.dto.LancamentoDTO;
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.importacao.LinhaCsv;
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class LeitorLoteLancamento {
+
+	static final MediaType CSV = MediaType.valueOf("text/csv");
+
+	private final ObjectMapper objectMapper;
+
+	LeitorLoteLancamento(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	Iterator<LancamentoDTO> ler(InputStream corpo, MediaType tipoConteudo) throws IOException {
+		if(CSV.isCompatibleWith(tipoConteudo)) {
+			return new IteradorCsv(new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8)));
+		}
+		Iterator<LancamentoDTO> dtos = objectMapper.readerFor(LancamentoDTO.class).readValues(corpo);
+		return new Iterator<LancamentoDTO>() {
+			@Override
+			public boolean hasNext() {
+				return dtos.hasNext();
+			}
+
+			@Override
+			public LancamentoDTO next() {
+				try {
+					return dtos.next();
+				}catch(RuntimeException e) {
+					throw new RegraNegocioException("Lançamento com formato inválido");
+				}
+			}
+		};
+	}
+
+	private static class IteradorCsv implements Iterator<LancamentoDTO> {
+
+		private final BufferedReader leitor;
+		private final char separador;
+		private final Map<String, Integer> colunas = new HashMap<>();
+		private String proximaLinha;
+
+		IteradorCsv(BufferedReader leitor) throws IOException {
+			this.leitor = leitor;
+			String cabecalho = leitor.readLine();
+			if(cabecalho == null) {
+				throw new RegraNegocioException("Arquivo CSV sem cabeçalho");
+			}
+			this.separador = LinhaCsv.detectarSeparador(cabecalho);
+			List<String> nomes = LinhaCsv.dividir(cabecalho, separador);
+			for(int i = 0; i < nomes.size(); i++) {
+				colunas.put(nomes.get(i).trim().toLowerCase(), i);
+			}
+			this.proximaLinha = lerLinha();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return proximaLinha != null;
+		}
+
+		@Override
+		public LancamentoDTO next() {
+			if(proximaLinha == null) {
+				throw new NoSuchElementException();
+			}
+			List<String> campos = LinhaCsv.dividir(proximaLinha, separador);
+			proximaLinha = lerLinha();
+			try {
+				String mes = campo(campos, "mes");
+				String ano = campo(campos, "ano");
+				String valor = campo(campos, "valor");
+				return LancamentoDTO.builder()
+						.descricao(campo(campos, "descricao"))
+						.mes(mes == null ? null : Integer.valueOf(mes))
+						.ano(ano == null ? null : Integer.valueOf(ano))
+						.valor(valor == null ? null : Dinheiro.de(valor))
+						.tipo(campo(campos, "tipo"))
+						.build();
+			}catch(NumberFormatException e) {
+				throw new RegraNegocioException("Lançamento com formato inválido");
+			}
+		}
+
+		private String campo(List<String> campos, String nome) {
+			Integer indice = colunas.get(nome);
+			if(indice == null || indice >= campos.size()) {
+				return null;
+			}
+			String valor = campos.get(indice).trim();
+			return valor.isEmpty() ? null : valor;
+		}
+
+		private String lerLinha() {
+			try {
+				String linha = leitor.readLine();
+				while(linha != null && linha.isBlank()) {
+					linha = leitor.readLine();
+				}
+				return linha;
+			}catch(IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
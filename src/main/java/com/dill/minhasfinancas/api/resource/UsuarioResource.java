@@ -1,22 +1,35 @@
 package com.dill.minhasfinancas.api.resource;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Optional;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.dill.minhasfinancas.api.AutenticacaoInterceptor;
+import com.dill.minhasfinancas.api.dto.ConteudoVersionadoDTO;
+import com.dill.minhasfinancas.api.dto.TokenDTO;
+import com.dill.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
 import com.dill.minhasfinancas.api.dto.UsuarioDTO;
 import com.dill.minhasfinancas.exceptions.ErroAutenticacao;
 import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.exceptions.ServicoSobrecarregadoException;
 import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.service.AnaliseLancamentoService;
 import com.dill.minhasfinancas.service.LancamentoService;
+import com.dill.minhasfinancas.service.TokenService;
 import com.dill.minhasfinancas.service.UsuarioService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,14 +41,23 @@ public class UsuarioResource {
 	
 	private final UsuarioService service;
 	private final LancamentoService lancamentoService;
+	private final AnaliseLancamentoService analiseService;
+	private final TokenService tokenService;
 	
 	@PostMapping("/autenticar")
 	public ResponseEntity autenticar(@RequestBody UsuarioDTO dto) {
 		try {
 			Usuario usuarioAutenticado = service.autenticar(dto.getEmail(), dto.getSenha());
-			return ResponseEntity.ok(usuarioAutenticado);
+			return ResponseEntity.ok(TokenDTO.builder()
+					.id(usuarioAutenticado.getId())
+					.nome(usuarioAutenticado.getNome())
+					.email(usuarioAutenticado.getEmail())
+					.token(tokenService.gerar(usuarioAutenticado))
+					.build());
 		}catch (ErroAutenticacao e) {
 			return ResponseEntity.badRequest().body(e.getMessage());
+		}catch (ServicoSobrecarregadoException e) {
+			return servicoSobrecarregado(e);
 		}
 	}
 	
@@ -51,21 +73,70 @@ public class UsuarioResource {
 		
 		}catch(RegraNegocioException e) {
 			return ResponseEntity.badRequest().body(e.getMessage());
+		}catch(ServicoSobrecarregadoException e) {
+			return servicoSobrecarregado(e);
 		}
 	}
 	
 
 	
 	@GetMapping("{id}/saldo")
-	public ResponseEntity obterSaldo(@PathVariable("id") Long id) {
+	public ResponseEntity obterSaldo(@PathVariable("id") Long id,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado,
+			WebRequest requisicao) {
+		if(!usuarioAutenticado.permiteAcessoA(id)) {
+			return new ResponseEntity(HttpStatus.FORBIDDEN);
+		}
+		String etagAtual = id + "-" + lancamentoService.obterVersaoPorUsuario(id);
+		if(CondicaoEtag.naoModificado(requisicao, etagAtual)) {
+			return CondicaoEtag.naoModificado(etagAtual);
+		}
+		Optional<Usuario> usuario = service.obterPorId(id);
+		
+		if(!usuario.isPresent()) {
+			return new ResponseEntity(HttpStatus.NOT_FOUND);
+		}
+		ConteudoVersionadoDTO<BigDecimal> saldo = lancamentoService.obterSaldoComVersao(id);
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+				.eTag(id + "-" + saldo.getVersao())
+				.body(saldo.getConteudo());
+	}
+	
+	@GetMapping("{id}/resumo")
+	public ResponseEntity obterResumo(@PathVariable("id") Long id,
+			@RequestParam(value = "ano", required = false) Integer ano,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
+		if(!usuarioAutenticado.permiteAcessoA(id)) {
+			return new ResponseEntity(HttpStatus.FORBIDDEN);
+		}
 		Optional<Usuario> usuario = service.obterPorId(id);
 		
 		if(!usuario.isPresent()) {
 			return new ResponseEntity(HttpStatus.NOT_FOUND);
 		}
-		BigDecimal saldo = lancamentoService.obterSaldoPorUsuario(id);
-		return ResponseEntity.ok(saldo);
+		int anoResumo = ano != null ? ano : LocalDate.now().getYear();
+		return ResponseEntity.ok(lancamentoService.obterResumoAnual(id, anoResumo));
 	}
 	
+	@GetMapping("{id}/relatorio")
+	public ResponseEntity obterRelatorio(@PathVariable("id") Long id,
+			@RequestParam(value = "ano", required = false) Integer ano,
+			@RequestAttribute(AutenticacaoInterceptor.USUARIO_AUTENTICADO) UsuarioAutenticadoDTO usuarioAutenticado) {
+		if(!usuarioAutenticado.permiteAcessoA(id)) {
+			return new ResponseEntity(HttpStatus.FORBIDDEN);
+		}
+		Optional<Usuario> usuario = service.obterPorId(id);
+		
+		if(!usuario.isPresent()) {
+			return new ResponseEntity(HttpStatus.NOT_FOUND);
+		}
+		int anoRelatorio = ano != null ? ano : LocalDate.now().getYear();
+		return ResponseEntity.ok(analiseService.gerarRelatorioAnual(id, anoRelatorio));
+	}
 	
+	private ResponseEntity servicoSobrecarregado(ServicoSobrecarregadoException e) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.body(e.getMessage());
+	}
 }
@@ -0,0 +1,26 @@
+package com.dill.minhasfinancas.eventos;
+
+import java.time.LocalDateTime;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoEventoLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class LancamentoEvento {
+	Long id;
+	TipoEventoLancamento tipo;
+	Long idLancamento;
+	Long idUsuario;
+	Integer ano;
+	Integer mes;
+	Dinheiro valor;
+	TipoLancamento tipoLancamento;
+	StatusLancamento status;
+	LocalDateTime dataCriacao;
+}
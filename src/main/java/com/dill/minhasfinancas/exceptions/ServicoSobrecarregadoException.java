@@ -0,0 +1,9 @@
+package com.dill.minhasfinancas.exceptions;
+
+public class ServicoSobrecarregadoException extends RuntimeException{
+	private static final long serialVersionUID = 1L;
+
+	public ServicoSobrecarregadoException(String mensagem) {
+		super(mensagem);
+	}
+}
@@ -0,0 +1,9 @@
+package com.dill.minhasfinancas.exceptions;
+
+public class VersaoDesatualizadaException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public VersaoDesatualizadaException(String mensagem) {
+		super(mensagem);
+	}
+}
@@ -0,0 +1,35 @@
+package com.dill.minhasfinancas.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+public enum FormatoExtrato {
+	OFX(Charset.forName("windows-1252")) {
+		@Override
+		public Iterator<RegistroExtrato> criarLeitor(Reader leitor) throws IOException {
+			return new LeitorOfx(new BufferedReader(leitor));
+		}
+	},
+	CSV(StandardCharsets.UTF_8) {
+		@Override
+		public Iterator<RegistroExtrato> criarLeitor(Reader leitor) throws IOException {
+			return new LeitorCsvExtrato(new BufferedReader(leitor));
+		}
+	};
+	
+	private final Charset charsetPadrao;
+	
+	FormatoExtrato(Charset charsetPadrao) {
+		this.charsetPadrao = charsetPadrao;
+	}
+	
+	public Charset getCharsetPadrao() {
+		return charsetPadrao;
+	}
+	
+	public abstract Iterator<RegistroExtrato> criarLeitor(Reader leitor) throws IOException;
+}
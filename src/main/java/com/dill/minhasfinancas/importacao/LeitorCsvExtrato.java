@@ -0,0 +1,104 @@
+package com.dill.minhasfinancas.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+
+class LeitorCsvExtrato implements Iterator<RegistroExtrato> {
+
+	private static final DateTimeFormatter DATA_BRASILEIRA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+	private final BufferedReader leitor;
+	private final char separador;
+	private final Map<String, Integer> colunas = new HashMap<>();
+	private String proximaLinha;
+
+	LeitorCsvExtrato(BufferedReader leitor) throws IOException {
+		this.leitor = leitor;
+		String cabecalho = leitor.readLine();
+		if(cabecalho == null) {
+			throw new RegraNegocioException("Arquivo CSV sem cabeçalho");
+		}
+		this.separador = LinhaCsv.detectarSeparador(cabecalho);
+		List<String> nomes = LinhaCsv.dividir(cabecalho, separador);
+		for(int i = 0; i < nomes.size(); i++) {
+			colunas.put(nomes.get(i).trim().toLowerCase(), i);
+		}
+		if(!colunas.containsKey("data") || !colunas.containsKey("valor")) {
+			throw new RegraNegocioException("O arquivo CSV deve possuir as colunas data e valor");
+		}
+		this.proximaLinha = lerLinha();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return proximaLinha != null;
+	}
+
+	@Override
+	public RegistroExtrato next() {
+		if(proximaLinha == null) {
+			throw new NoSuchElementException();
+		}
+		List<String> campos = LinhaCsv.dividir(proximaLinha, separador);
+		proximaLinha = lerLinha();
+		try {
+			String descricao = campo(campos, "descricao");
+			return RegistroExtrato.builder()
+					.data(converterData(campo(campos, "data")))
+					.descricao(descricao != null ? descricao : campo(campos, "historico"))
+					.valor(converterValor(campo(campos, "valor")))
+					.identificador(campo(campos, "identificador"))
+					.build();
+		}catch(DateTimeParseException | NumberFormatException | NullPointerException e) {
+			throw new RegraNegocioException("Registro do extrato com formato inválido");
+		}
+	}
+
+	private String campo(List<String> campos, String nome) {
+		Integer indice = colunas.get(nome);
+		if(indice == null || indice >= campos.size()) {
+			return null;
+		}
+		String valor = campos.get(indice).trim();
+		return valor.isEmpty() ? null : valor;
+	}
+
+	private LocalDate converterData(String data) {
+		if(data.indexOf('/') >= 0) {
+			return LocalDate.parse(data, DATA_BRASILEIRA);
+		}
+		return LocalDate.parse(data);
+	}
+
+	static BigDecimal converterValor(String valor) {
+		String normalizado = valor.replace(" ", "");
+		if(normalizado.indexOf(',') >= 0) {
+			normalizado = normalizado.replace(".", "").replace(',', '.');
+		}
+		return new BigDecimal(normalizado);
+	}
+
+	private String lerLinha() {
+		try {
+			String linha = leitor.readLine();
+			while(linha != null && linha.isBlank()) {
+				linha = leitor.readLine();
+			}
+			return linha;
+		}catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.dill.minhasfinancas.importacao;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+
+class LeitorOfx implements Iterator<RegistroExtrato> {
+
+	private final Reader leitor;
+	private final StringBuilder buffer = new StringBuilder();
+	private boolean tagIniciada;
+	private boolean fim;
+	private Transacao proxima;
+
+	LeitorOfx(Reader leitor) {
+		this.leitor = leitor;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if(proxima == null && !fim) {
+			proxima = lerProximaTransacao();
+		}
+		return proxima != null;
+	}
+
+	@Override
+	public RegistroExtrato next() {
+		if(!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Transacao transacao = proxima;
+		proxima = null;
+		try {
+			return RegistroExtrato.builder()
+					.data(LocalDate.parse(transacao.data.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE))
+					.valor(LeitorCsvExtrato.converterValor(transacao.valor))
+					.descricao(transacao.memo != null ? transacao.memo : transacao.nome)
+					.identificador(transacao.identificador)
+					.build();
+		}catch(DateTimeParseException | NumberFormatException | NullPointerException | IndexOutOfBoundsException e) {
+			throw new RegraNegocioException("Transação do extrato com formato inválido");
+		}
+	}
+
+	private Transacao lerProximaTransacao() {
+		Transacao atual = null;
+		String tag;
+		while((tag = lerTag()) != null) {
+			if(tag.equals("STMTTRN")) {
+				atual = new Transacao();
+			}else if(tag.equals("/STMTTRN")) {
+				if(atual != null) {
+					return atual;
+				}
+			}else if(atual != null && tag.charAt(0) != '/') {
+				String valor = lerTexto();
+				switch(tag) {
+					case "DTPOSTED" -> atual.data = valor;
+					case "TRNAMT" -> atual.valor = valor;
+					case "FITID" -> atual.identificador = valor;
+					case "NAME" -> atual.nome = valor;
+					case "MEMO" -> atual.memo = valor;
+					default -> { }
+				}
+			}
+		}
+		fim = true;
+		return null;
+	}
+
+	private String lerTag() {
+		int c;
+		if(!tagIniciada) {
+			c = ler();
+			while(c != -1 && c != '<') {
+				c = ler();
+			}
+			if(c == -1) {
+				return null;
+			}
+		}
+		tagIniciada = false;
+		buffer.setLength(0);
+		while((c = ler()) != -1 && c != '>') {
+			buffer.append((char) c);
+		}
+		if(c == -1 || buffer.length() == 0) {
+			return null;
+		}
+		return buffer.toString().trim().toUpperCase();
+	}
+
+	private String lerTexto() {
+		buffer.setLength(0);
+		int c;
+		while((c = ler()) != -1 && c != '<') {
+			buffer.append((char) c);
+		}
+		tagIniciada = c == '<';
+		String texto = buffer.toString().trim();
+		if(texto.isEmpty()) {
+			return null;
+		}
+		return texto.replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&");
+	}
+
+	private int ler() {
+		try {
+			return leitor.read();
+		}catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static class Transacao {
+		private String data;
+		private String valor;
+		private String identificador;
+		private String nome;
+		private String memo;
+	}
+}
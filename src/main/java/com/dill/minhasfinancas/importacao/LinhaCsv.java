@@ -0,0 +1,38 @@
+package com.dill.minhasfinancas.importacao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class LinhaCsv {
+
+	private LinhaCsv() {
+	}
+
+	public static char detectarSeparador(String cabecalho) {
+		return cabecalho.indexOf(';') >= 0 ? ';' : ',';
+	}
+
+	public static List<String> dividir(String linha, char separador) {
+		List<String> campos = new ArrayList<>();
+		StringBuilder atual = new StringBuilder();
+		boolean entreAspas = false;
+		for(int i = 0; i < linha.length(); i++) {
+			char c = linha.charAt(i);
+			if(c == '"') {
+				if(entreAspas && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+					atual.append('"');
+					i++;
+				}else {
+					entreAspas = !entreAspas;
+				}
+			}else if(c == separador && !entreAspas) {
+				campos.add(atual.toString());
+				atual.setLength(0);
+			}else {
+				atual.append(c);
+			}
+		}
+		campos.add(atual.toString());
+		return campos;
+	}
+}
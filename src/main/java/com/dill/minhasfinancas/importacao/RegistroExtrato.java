@@ -0,0 +1,20 @@
+package com.dill.minhasfinancas.importacao;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistroExtrato {
+	private LocalDate data;
+	private String descricao;
+	private BigDecimal valor;
+	private String identificador;
+}
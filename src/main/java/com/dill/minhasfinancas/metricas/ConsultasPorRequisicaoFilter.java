@@ -0,0 +1,42 @@
+package com.dill.minhasfinancas.metricas;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class ConsultasPorRequisicaoFilter extends OncePerRequestFilter {
+
+	static final String METRICA_CONSULTAS = "minhasfinancas.http.consultas";
+
+	private final MeterRegistry registry;
+
+	public ConsultasPorRequisicaoFilter(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		ContadorConsultas.iniciar();
+		try {
+			chain.doFilter(request, response);
+		}finally {
+			int consultas = ContadorConsultas.finalizar();
+			Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			DistributionSummary.builder(METRICA_CONSULTAS)
+				.baseUnit("statements")
+				.tag("method", request.getMethod())
+				.tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+				.register(registry)
+				.record(consultas);
+		}
+	}
+}
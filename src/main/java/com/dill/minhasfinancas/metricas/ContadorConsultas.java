@@ -0,0 +1,27 @@
+package com.dill.minhasfinancas.metricas;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class ContadorConsultas implements StatementInspector {
+
+	private static final ThreadLocal<int[]> CONTADOR = new ThreadLocal<>();
+
+	@Override
+	public String inspect(String sql) {
+		int[] contador = CONTADOR.get();
+		if(contador != null) {
+			contador[0]++;
+		}
+		return sql;
+	}
+
+	static void iniciar() {
+		CONTADOR.set(new int[1]);
+	}
+
+	static int finalizar() {
+		int[] contador = CONTADOR.get();
+		CONTADOR.remove();
+		return contador == null ? 0 : contador[0];
+	}
+}
@@ -0,0 +1,142 @@
+package com.dill.minhasfinancas.metricas;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import com.dill.minhasfinancas.exceptions.ErroAutenticacao;
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+@Aspect
+@Component
+public class MetricasAspect {
+
+	static final String METRICA_METODO = "minhasfinancas.metodo";
+	static final String METRICA_ERROS = "minhasfinancas.erros";
+	static final String METRICA_LINHAS = "minhasfinancas.metodo.linhas";
+
+	private static final String PACOTE_BASE = "com.dill.minhasfinancas.";
+	private static final String SEM_EXCECAO = "none";
+
+	private final MeterRegistry registry;
+	private final Map<ChaveMetodo, Medidores> medidores = new ConcurrentHashMap<>();
+
+	public MetricasAspect(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Pointcut("within(com.dill.minhasfinancas.api.resource..*)")
+	void resource() {
+	}
+
+	@Pointcut("within(com.dill.minhasfinancas.service..*)")
+	void service() {
+	}
+
+	@Pointcut("execution(public * org.springframework.data.repository.Repository+.*(..))")
+	void repository() {
+	}
+
+	@Around("resource()")
+	public Object medirResource(ProceedingJoinPoint joinPoint) throws Throwable {
+		return medir(joinPoint, "resource");
+	}
+
+	@Around("service()")
+	public Object medirService(ProceedingJoinPoint joinPoint) throws Throwable {
+		return medir(joinPoint, "service");
+	}
+
+	@Around("repository()")
+	public Object medirRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		return medir(joinPoint, "repository");
+	}
+
+	private Object medir(ProceedingJoinPoint joinPoint, String camada) throws Throwable {
+		Medidores medidor = medidores.computeIfAbsent(
+				new ChaveMetodo(joinPoint.getThis().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod()),
+				chave -> new Medidores(camada, nomeClasse(joinPoint.getThis().getClass()), chave.metodo().getName()));
+
+		long inicio = System.nanoTime();
+		Object resultado;
+		try {
+			resultado = joinPoint.proceed();
+		}catch(Throwable e) {
+			medidor.registrarErro(e, System.nanoTime() - inicio);
+			throw e;
+		}
+		medidor.sucesso.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+		if(resultado instanceof Collection<?> colecao) {
+			medidor.linhas().record(colecao.size());
+		}
+		return resultado;
+	}
+
+	private String nomeClasse(Class<?> tipo) {
+		if(Proxy.isProxyClass(tipo)) {
+			for(Class<?> interfaceImplementada : tipo.getInterfaces()) {
+				if(interfaceImplementada.getName().startsWith(PACOTE_BASE)) {
+					return interfaceImplementada.getSimpleName();
+				}
+			}
+		}
+		return ClassUtils.getUserClass(tipo).getSimpleName();
+	}
+
+	private static String categoria(Throwable e) {
+		if(e instanceof RegraNegocioException || e instanceof ErroAutenticacao) {
+			return e.getClass().getSimpleName();
+		}
+		return "Outra";
+	}
+
+	private record ChaveMetodo(Class<?> tipo, Method metodo) {
+	}
+
+	private class Medidores {
+
+		private final String camada;
+		private final Tags tags;
+		private final Timer sucesso;
+		private volatile DistributionSummary linhas;
+
+		private Medidores(String camada, String classe, String metodo) {
+			this.camada = camada;
+			this.tags = Tags.of("camada", camada, "classe", classe, "metodo", metodo);
+			this.sucesso = Timer.builder(METRICA_METODO).tags(tags).tag("excecao", SEM_EXCECAO).register(registry);
+		}
+
+		private DistributionSummary linhas() {
+			if(linhas == null) {
+				linhas = DistributionSummary.builder(METRICA_LINHAS).baseUnit("linhas").tags(tags).register(registry);
+			}
+			return linhas;
+		}
+
+		private void registrarErro(Throwable e, long duracao) {
+			Timer.builder(METRICA_METODO).tags(tags).tag("excecao", e.getClass().getSimpleName())
+				.register(registry)
+				.record(duracao, TimeUnit.NANOSECONDS);
+			if(camada.equals("service")) {
+				Counter.builder(METRICA_ERROS).tags(tags).tag("excecao", categoria(e)).register(registry).increment();
+			}
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.dill.minhasfinancas.metricas;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricasConfiguration {
+
+	@Bean
+	public HibernatePropertiesCustomizer contadorConsultasCustomizer() {
+		return propriedades -> propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorConsultas());
+	}
+
+	@Bean
+	public ConsultasPorRequisicaoFilter consultasPorRequisicaoFilter(MeterRegistry registry) {
+		return new ConsultasPorRequisicaoFilter(registry);
+	}
+}
@@ -0,0 +1,32 @@
+package com.dill.minhasfinancas.metricas;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.dill.minhasfinancas.eventos.LancamentoEvento;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class MetricasEventosLancamento {
+
+	static final String METRICA_ATRASO = "minhasfinancas.eventos.lancamento.atraso";
+
+	private final MeterRegistry registry;
+
+	public MetricasEventosLancamento(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@EventListener
+	public void registrar(LancamentoEvento evento) {
+		Timer.builder(METRICA_ATRASO)
+				.tag("tipo", evento.getTipo().name())
+				.register(registry)
+				.record(Duration.between(evento.getDataCriacao(), LocalDateTime.now()));
+	}
+}
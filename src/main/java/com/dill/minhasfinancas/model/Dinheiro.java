@@ -0,0 +1,177 @@
+package com.dill.minhasfinancas.model;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Valor monetário imutável guardado em centavos. As operações são exatas e lançam
+ * {@link ArithmeticException} em caso de estouro, como {@link Math#addExact(long, long)}.
+ */
+@JsonSerialize(using = DinheiroJson.Serializador.class)
+@JsonDeserialize(using = DinheiroJson.Desserializador.class)
+public final class Dinheiro implements Comparable<Dinheiro>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public static final Dinheiro ZERO = new Dinheiro(0);
+
+	public static final int CASAS_DECIMAIS = 2;
+
+	static final int TAMANHO_MAXIMO_TEXTO = 21;
+
+	private final long centavos;
+
+	private Dinheiro(long centavos) {
+		this.centavos = centavos;
+	}
+
+	public static Dinheiro deCentavos(long centavos) {
+		return centavos == 0 ? ZERO : new Dinheiro(centavos);
+	}
+
+	public static Dinheiro de(BigDecimal valor) {
+		return deCentavos(valor.setScale(CASAS_DECIMAIS, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+	}
+
+	public static Dinheiro de(String valor) {
+		return ler(valor.toCharArray(), 0, valor.length());
+	}
+
+	/**
+	 * Lê um valor decimal simples ({@code -1234.5}) direto dos caracteres, sem passar por
+	 * {@link BigDecimal}. Casas além da segunda são arredondadas como no banco.
+	 */
+	public static Dinheiro ler(char[] texto, int inicio, int tamanho) {
+		int fim = inicio + tamanho;
+		int posicao = inicio;
+		boolean negativo = false;
+		if(posicao < fim && (texto[posicao] == '-' || texto[posicao] == '+')) {
+			negativo = texto[posicao] == '-';
+			posicao++;
+		}
+		long centavos = 0;
+		int digitos = 0;
+		int casas = -1;
+		boolean arredondar = false;
+		for(; posicao < fim; posicao++) {
+			char c = texto[posicao];
+			if(c == '.' && casas < 0) {
+				casas = 0;
+				continue;
+			}
+			if(c < '0' || c > '9') {
+				throw new NumberFormatException("Valor monetário inválido: " + new String(texto, inicio, tamanho));
+			}
+			digitos++;
+			if(casas < 0 || casas < CASAS_DECIMAIS) {
+				centavos = Math.addExact(Math.multiplyExact(centavos, 10), c - '0');
+				if(casas >= 0) {
+					casas++;
+				}
+			}else if(casas == CASAS_DECIMAIS) {
+				arredondar = c >= '5';
+				casas++;
+			}
+		}
+		if(digitos == 0) {
+			throw new NumberFormatException("Valor monetário inválido: " + new String(texto, inicio, tamanho));
+		}
+		for(int i = Math.max(casas, 0); i < CASAS_DECIMAIS; i++) {
+			centavos = Math.multiplyExact(centavos, 10);
+		}
+		if(arredondar) {
+			centavos = Math.incrementExact(centavos);
+		}
+		return deCentavos(negativo ? -centavos : centavos);
+	}
+
+	/**
+	 * Escreve o valor com duas casas decimais no fim de {@code destino}, do último
+	 * caractere para o primeiro, e devolve a posição inicial. O destino precisa de
+	 * {@value #TAMANHO_MAXIMO_TEXTO} posições.
+	 */
+	public int escrever(char[] destino) {
+		int posicao = destino.length;
+		long negativo = centavos < 0 ? centavos : -centavos;
+		if(negativo >= Integer.MIN_VALUE) {
+			int restante = (int) negativo;
+			for(int i = 0; i < CASAS_DECIMAIS; i++) {
+				destino[--posicao] = (char) ('0' - restante % 10);
+				restante /= 10;
+			}
+			destino[--posicao] = '.';
+			do {
+				destino[--posicao] = (char) ('0' - restante % 10);
+				restante /= 10;
+			}while(restante != 0);
+		}else {
+			for(int i = 0; i < CASAS_DECIMAIS; i++) {
+				destino[--posicao] = (char) ('0' - negativo % 10);
+				negativo /= 10;
+			}
+			destino[--posicao] = '.';
+			do {
+				destino[--posicao] = (char) ('0' - negativo % 10);
+				negativo /= 10;
+			}while(negativo != 0);
+		}
+		if(centavos < 0) {
+			destino[--posicao] = '-';
+		}
+		return posicao;
+	}
+
+	public long getCentavos() {
+		return centavos;
+	}
+
+	public Dinheiro somar(Dinheiro outro) {
+		return deCentavos(Math.addExact(centavos, outro.centavos));
+	}
+
+	public Dinheiro subtrair(Dinheiro outro) {
+		return deCentavos(Math.subtractExact(centavos, outro.centavos));
+	}
+
+	public Dinheiro negar() {
+		return deCentavos(Math.negateExact(centavos));
+	}
+
+	public int signum() {
+		return Long.signum(centavos);
+	}
+
+	public boolean isPositivo() {
+		return centavos > 0;
+	}
+
+	public BigDecimal paraBigDecimal() {
+		return BigDecimal.valueOf(centavos, CASAS_DECIMAIS);
+	}
+
+	@Override
+	public int compareTo(Dinheiro outro) {
+		return Long.compare(centavos, outro.centavos);
+	}
+
+	@Override
+	public boolean equals(Object objeto) {
+		return objeto instanceof Dinheiro outro && centavos == outro.centavos;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(centavos);
+	}
+
+	@Override
+	public String toString() {
+		char[] texto = new char[TAMANHO_MAXIMO_TEXTO];
+		int inicio = escrever(texto);
+		return new String(texto, inicio, texto.length - inicio);
+	}
+}
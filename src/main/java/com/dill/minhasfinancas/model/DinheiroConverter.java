@@ -0,0 +1,20 @@
+package com.dill.minhasfinancas.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class DinheiroConverter implements AttributeConverter<Dinheiro, BigDecimal> {
+
+	@Override
+	public BigDecimal convertToDatabaseColumn(Dinheiro valor) {
+		return valor == null ? null : valor.paraBigDecimal();
+	}
+
+	@Override
+	public Dinheiro convertToEntityAttribute(BigDecimal valor) {
+		return valor == null ? null : Dinheiro.de(valor);
+	}
+}
@@ -0,0 +1,66 @@
+package com.dill.minhasfinancas.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Lê e escreve {@link Dinheiro} como número JSON trabalhando direto sobre os caracteres
+ * do parser e do gerador, sem criar {@code BigDecimal} nem {@code String} no caminho comum.
+ */
+public final class DinheiroJson {
+
+	private DinheiroJson() {
+	}
+
+	public static class Serializador extends JsonSerializer<Dinheiro> {
+
+		@Override
+		public void serialize(Dinheiro valor, JsonGenerator gerador, SerializerProvider provider) throws IOException {
+			char[] texto = new char[Dinheiro.TAMANHO_MAXIMO_TEXTO];
+			int inicio = valor.escrever(texto);
+			gerador.writeNumber(texto, inicio, texto.length - inicio);
+		}
+	}
+
+	public static class Desserializador extends JsonDeserializer<Dinheiro> {
+
+		@Override
+		public Dinheiro deserialize(JsonParser parser, DeserializationContext contexto) throws IOException {
+			JsonToken token = parser.currentToken();
+			if(token == JsonToken.VALUE_STRING) {
+				try {
+					return ler(parser);
+				}catch(NumberFormatException | ArithmeticException e) {
+					return (Dinheiro) contexto.handleWeirdStringValue(Dinheiro.class, parser.getText(), "valor monetário inválido");
+				}
+			}
+			if(!token.isNumeric()) {
+				return (Dinheiro) contexto.handleUnexpectedToken(Dinheiro.class, parser);
+			}
+			try {
+				if(token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+					return Dinheiro.deCentavos(Math.multiplyExact(parser.getLongValue(), 100));
+				}
+				try {
+					return ler(parser);
+				}catch(NumberFormatException e) {
+					return Dinheiro.de(parser.getDecimalValue());
+				}
+			}catch(ArithmeticException e) {
+				return (Dinheiro) contexto.handleWeirdNumberValue(Dinheiro.class, parser.getNumberValue(),
+						"valor fora do intervalo suportado");
+			}
+		}
+
+		private Dinheiro ler(JsonParser parser) throws IOException {
+			return Dinheiro.ler(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+		}
+	}
+}
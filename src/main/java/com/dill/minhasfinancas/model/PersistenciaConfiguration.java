@@ -0,0 +1,61 @@
+package com.dill.minhasfinancas.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Com o R2DBC no classpath o Spring Boot deixa de criar o DataSource JDBC,
+ * então o pool usado pelo JPA e pelo Flyway é declarado aqui a partir das
+ * mesmas propriedades {@code spring.datasource.*}.
+ * <p>
+ * As réplicas de {@code minhasfinancas.replicas.urls} herdam a configuração
+ * do pool primário e recebem as transações somente leitura.
+ */
+@Configuration
+public class PersistenciaConfiguration {
+
+	private static final String CONSULTA_ATRASO_POSTGRES = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+			+ "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+			+ "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource dataSourcePrimario(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	public RoteamentoLeituraDataSource roteamentoLeitura(HikariDataSource dataSourcePrimario,
+			@Value("${minhasfinancas.replicas.urls:}") List<String> urls,
+			@Value("${minhasfinancas.replicas.balanceamento:RODIZIO}") RoteamentoLeituraDataSource.Balanceamento balanceamento,
+			@Value("${minhasfinancas.replicas.atraso-maximo:5s}") Duration atrasoMaximo,
+			@Value("${minhasfinancas.replicas.consulta-atraso:" + CONSULTA_ATRASO_POSTGRES + "}") String consultaAtraso) {
+		List<HikariDataSource> replicas = new ArrayList<>();
+		for(String url : urls) {
+			HikariDataSource replica = new HikariDataSource();
+			dataSourcePrimario.copyStateTo(replica);
+			replica.setJdbcUrl(url.trim());
+			replica.setPoolName("replica-" + (replicas.size() + 1));
+			replica.setReadOnly(true);
+			replicas.add(replica);
+		}
+		return new RoteamentoLeituraDataSource(dataSourcePrimario, replicas, balanceamento, atrasoMaximo, consultaAtraso);
+	}
+
+	@Bean
+	@Primary
+	public LazyConnectionDataSourceProxy dataSource(RoteamentoLeituraDataSource roteamentoLeitura) {
+		return new LazyConnectionDataSourceProxy(roteamentoLeitura);
+	}
+}
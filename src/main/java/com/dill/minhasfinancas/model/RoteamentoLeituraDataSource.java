@@ -0,0 +1,161 @@
+package com.dill.minhasfinancas.model;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Envia as transações {@code readOnly} para uma das réplicas e todo o resto
+ * para o banco primário. Réplicas cujo atraso passa de {@code atrasoMaximo},
+ * ou que não respondem, ficam fora do rodízio até a próxima verificação; sem
+ * réplica disponível a leitura volta para o primário.
+ * <p>
+ * A decisão depende da transação já estar marcada como somente leitura, por
+ * isso este DataSource deve ser usado atrás de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * e com o {@code spring.jpa.open-in-view} desligado: uma sessão aberta por toda
+ * a requisição guardaria a conexão da primeira leitura e a escrita seguinte
+ * iria para a réplica.
+ * <p>
+ * Não há leitura da própria escrita: um GET logo após um POST pode cair numa
+ * réplica até {@code atrasoMaximo} atrás. Cada transação escolhe a sua réplica,
+ * então o que precisa ser coerente (a versão do ETag e o corpo que ela
+ * identifica) deve ser lido numa única transação somente leitura.
+ */
+@Slf4j
+public class RoteamentoLeituraDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+	public enum Balanceamento {
+		RODIZIO,
+		MENOS_CONEXOES
+	}
+
+	private final List<Replica> replicas;
+	private final Balanceamento balanceamento;
+	private final double atrasoMaximo;
+	private final String consultaAtraso;
+	private final AtomicInteger proxima = new AtomicInteger();
+
+	public RoteamentoLeituraDataSource(DataSource primario, List<HikariDataSource> replicas,
+			Balanceamento balanceamento, Duration atrasoMaximo, String consultaAtraso) {
+		this.replicas = IntStream.range(0, replicas.size())
+				.mapToObj(i -> new Replica("replica-" + (i + 1), replicas.get(i)))
+				.toList();
+		this.balanceamento = balanceamento;
+		this.atrasoMaximo = atrasoMaximo.toMillis() / 1000.0;
+		this.consultaAtraso = consultaAtraso;
+		Map<Object, Object> destinos = new HashMap<>();
+		for(Replica replica : this.replicas) {
+			destinos.put(replica.nome, replica.dataSource);
+		}
+		setTargetDataSources(destinos);
+		setDefaultTargetDataSource(primario);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		super.afterPropertiesSet();
+		verificarReplicas();
+	}
+
+	@Override
+	public void destroy() {
+		for(Replica replica : replicas) {
+			replica.dataSource.close();
+		}
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if(replicas.isEmpty() || !TransactionSynchronizationManager.isActualTransactionActive()
+				|| !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return null;
+		}
+		Replica escolhida = balanceamento == Balanceamento.MENOS_CONEXOES ? menosConexoes() : rodizio();
+		return escolhida == null ? null : escolhida.nome;
+	}
+
+	@Scheduled(cron = "${minhasfinancas.replicas.verificacao.cron:-}")
+	public void verificarReplicas() {
+		for(Replica replica : replicas) {
+			boolean disponivel;
+			try(Connection conexao = replica.dataSource.getConnection();
+					Statement comando = conexao.createStatement();
+					ResultSet resultado = comando.executeQuery(consultaAtraso)) {
+				double atraso = resultado.next() ? resultado.getDouble(1) : 0;
+				disponivel = atraso <= atrasoMaximo;
+				if(!disponivel && replica.disponivel) {
+					log.warn("Réplica {} com atraso de {}s, leituras voltam para o primário", replica.nome, atraso);
+				}
+			}catch(SQLException e) {
+				disponivel = false;
+				if(replica.disponivel) {
+					log.warn("Réplica {} indisponível: {}", replica.nome, e.getMessage());
+				}
+			}
+			replica.disponivel = disponivel;
+		}
+	}
+
+	private Replica rodizio() {
+		int inicio = Math.floorMod(proxima.getAndIncrement(), replicas.size());
+		for(int i = 0; i < replicas.size(); i++) {
+			Replica replica = replicas.get((inicio + i) % replicas.size());
+			if(replica.disponivel) {
+				return replica;
+			}
+		}
+		return null;
+	}
+
+	private Replica menosConexoes() {
+		Replica escolhida = null;
+		int menor = Integer.MAX_VALUE;
+		for(Replica replica : replicas) {
+			if(!replica.disponivel) {
+				continue;
+			}
+			int ativas = replica.conexoesAtivas();
+			if(ativas < menor) {
+				escolhida = replica;
+				menor = ativas;
+			}
+		}
+		return escolhida;
+	}
+
+	private static class Replica {
+		private final String nome;
+		private final HikariDataSource dataSource;
+		private volatile boolean disponivel;
+
+		private Replica(String nome, HikariDataSource dataSource) {
+			this.nome = nome;
+			this.dataSource = dataSource;
+		}
+
+		private int conexoesAtivas() {
+			HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+			return pool == null ? 0 : pool.getActiveConnections();
+		}
+	}
+}
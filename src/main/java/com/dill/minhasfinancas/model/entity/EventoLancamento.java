@@ -0,0 +1,79 @@
+package com.dill.minhasfinancas.model.entity;
+
+import java.time.LocalDateTime;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.DinheiroConverter;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoEventoLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "evento_lancamento", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoLancamento {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evento_lancamento_id_seq")
+	@SequenceGenerator(name = "evento_lancamento_id_seq", sequenceName = "evento_lancamento_id_seq", schema = "financas", allocationSize = 50)
+	@Column(name = "id")
+	private Long id;
+	
+	@Column(name = "tipo")
+	@Enumerated(value = EnumType.STRING)
+	private TipoEventoLancamento tipo;
+	
+	@Column(name = "id_lancamento")
+	private Long idLancamento;
+	
+	@Column(name = "id_usuario")
+	private Long idUsuario;
+	
+	@Column(name = "ano")
+	private Integer ano;
+	
+	@Column(name = "mes")
+	private Integer mes;
+	
+	@Column(name = "valor")
+	@Convert(converter = DinheiroConverter.class)
+	private Dinheiro valor;
+	
+	@Column(name = "tipo_lancamento")
+	@Enumerated(value = EnumType.STRING)
+	private TipoLancamento tipoLancamento;
+	
+	@Column(name = "status")
+	@Enumerated(value = EnumType.STRING)
+	private StatusLancamento status;
+	
+	@Column(name = "data_criacao")
+	private LocalDateTime dataCriacao;
+	
+	@Column(name = "data_processamento")
+	private LocalDateTime dataProcessamento;
+	
+	@Column(name = "tentativas")
+	private int tentativas;
+	
+	@Column(name = "proxima_tentativa")
+	private LocalDateTime proximaTentativa;
+}
@@ -3,22 +3,33 @@ package com.dill.minhasfinancas.model.entity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.jpa.convert.threeten.Jsr310JpaConverters;
 
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.DinheiroConverter;
 import com.dill.minhasfinancas.model.enums.StatusLancamento;
 import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,7 +37,15 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
-@Table(name = "lancamento", schema="financas")
+@Table(name = "lancamento", schema="financas", indexes = {
+		@Index(name = "idx_lancamento_usuario_ano_mes_tipo", columnList = "id_usuario, ano, mes, tipo"),
+		@Index(name = "idx_lancamento_usuario_ano_mes_id", columnList = "id_usuario, ano, mes, id"),
+		@Index(name = "uk_lancamento_usuario_hash_importacao", columnList = "id_usuario, hash_importacao", unique = true),
+		@Index(name = "uk_lancamento_recorrencia_ano_mes", columnList = "id_recorrencia, ano, mes", unique = true)
+})
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "lancamento")
 @Data
 @Builder
 @NoArgsConstructor
@@ -34,7 +53,8 @@ import lombok.NoArgsConstructor;
 public class Lancamento {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lancamento_id_seq")
+	@SequenceGenerator(name = "lancamento_id_seq", sequenceName = "lancamento_id_seq", schema = "financas", allocationSize = 50)
 	@Column(name = "id")
 	private Long id;
 	
@@ -47,12 +67,13 @@ public class Lancamento {
 	@Column(name = "ano")
 	private Integer ano;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "id_usuario")
 	private Usuario usuario;
 	
 	@Column(name = "valor")
-	private BigDecimal valor;
+	@Convert(converter = DinheiroConverter.class)
+	private Dinheiro valor;
 	
 	@Column(name = "data_cadastro")
 	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
@@ -65,4 +86,35 @@ public class Lancamento {
 	@Column(name = "status" )
 	@Enumerated(value = EnumType.STRING)
 	private StatusLancamento status;
+	
+	@Column(name = "hash_importacao")
+	@JsonIgnore
+	private String hashImportacao;
+	
+	@Column(name = "id_recorrencia", updatable = false)
+	private Long idRecorrencia;
+	
+	@Version
+	@Column(name = "versao")
+	private Long versao;
+	
+	public void setValor(Dinheiro valor) {
+		this.valor = valor;
+	}
+	
+	public void setValor(BigDecimal valor) {
+		this.valor = valor == null ? null : Dinheiro.de(valor);
+	}
+	
+	public static class LancamentoBuilder {
+		
+		public LancamentoBuilder valor(Dinheiro valor) {
+			this.valor = valor;
+			return this;
+		}
+		
+		public LancamentoBuilder valor(BigDecimal valor) {
+			return valor(valor == null ? null : Dinheiro.de(valor));
+		}
+	}
 }
@@ -0,0 +1,77 @@
+package com.dill.minhasfinancas.model.entity;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.convert.threeten.Jsr310JpaConverters;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.DinheiroConverter;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "recorrencia_lancamento", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecorrenciaLancamento {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recorrencia_lancamento_id_seq")
+	@SequenceGenerator(name = "recorrencia_lancamento_id_seq", sequenceName = "recorrencia_lancamento_id_seq", schema = "financas", allocationSize = 50)
+	@Column(name = "id")
+	private Long id;
+	
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "id_usuario")
+	private Usuario usuario;
+	
+	@Column(name = "descricao")
+	private String descricao;
+	
+	@Column(name = "valor")
+	@Convert(converter = DinheiroConverter.class)
+	private Dinheiro valor;
+	
+	@Column(name = "tipo")
+	@Enumerated(value = EnumType.STRING)
+	private TipoLancamento tipo;
+	
+	@Column(name = "ano_inicio")
+	private Integer anoInicio;
+	
+	@Column(name = "mes_inicio")
+	private Integer mesInicio;
+	
+	@Column(name = "intervalo_meses")
+	private Integer intervaloMeses;
+	
+	@Column(name = "ultima_competencia", nullable = false)
+	private Integer ultimaCompetencia;
+	
+	@Column(name = "data_fim")
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate dataFim;
+	
+	@Column(name = "data_cadastro")
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate dataCadastro;
+}
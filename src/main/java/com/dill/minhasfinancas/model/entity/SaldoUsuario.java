@@ -0,0 +1,48 @@
+package com.dill.minhasfinancas.model.entity;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.DinheiroConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "saldo_usuario", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaldoUsuario {
+
+	public static final long VERSAO_INICIAL = 1;
+
+	@Id
+	@Column(name = "id_usuario")
+	private Long idUsuario;
+	
+	@Column(name = "receitas")
+	@Convert(converter = DinheiroConverter.class)
+	private Dinheiro receitas;
+	
+	@Column(name = "despesas")
+	@Convert(converter = DinheiroConverter.class)
+	private Dinheiro despesas;
+	
+	@Column(name = "versao")
+	private long versao;
+	
+	public SaldoUsuario(Long idUsuario, Dinheiro receitas, Dinheiro despesas) {
+		this(idUsuario, receitas, despesas, VERSAO_INICIAL);
+	}
+	
+	public Dinheiro getSaldo() {
+		return receitas.subtrair(despesas);
+	}
+}
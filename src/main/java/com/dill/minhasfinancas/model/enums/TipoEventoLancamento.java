@@ -0,0 +1,8 @@
+package com.dill.minhasfinancas.model.enums;
+
+public enum TipoEventoLancamento {
+	CRIADO,
+	ATUALIZADO,
+	STATUS_ALTERADO,
+	REMOVIDO
+}
@@ -0,0 +1,31 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.dill.minhasfinancas.model.entity.EventoLancamento;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface EventoLancamentoRepository extends JpaRepository<EventoLancamento, Long> {
+	
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query(value = "SELECT e FROM EventoLancamento e WHERE e.dataProcessamento IS NULL "
+			+ "AND e.tentativas < :tentativas AND (e.proximaTentativa IS NULL OR e.proximaTentativa <= :agora) ORDER BY e.id")
+	List<EventoLancamento> buscarPendentes(@Param("tentativas") int tentativasMaximas, @Param("agora") LocalDateTime agora,
+			Limit limite);
+	
+	@Modifying
+	@Query(value = "DELETE FROM EventoLancamento e WHERE e.dataProcessamento < :limite")
+	int removerProcessadosAntesDe(@Param("limite") LocalDateTime limite);
+}
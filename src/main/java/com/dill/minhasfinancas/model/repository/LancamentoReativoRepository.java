@@ -0,0 +1,99 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class LancamentoReativoRepository {
+
+	private static final String CONSULTA = "SELECT id, descricao, mes, ano, valor, data_cadastro, tipo, status, "
+			+ "id_usuario, versao FROM financas.lancamento WHERE id_usuario = :usuario";
+
+	private final DatabaseClient client;
+
+	public LancamentoReativoRepository(DatabaseClient client) {
+		this.client = client;
+	}
+
+	public Flux<LancamentoConsultaDTO> consultar(Lancamento filtro) {
+		StringBuilder sql = new StringBuilder(CONSULTA);
+		Map<String, Object> parametros = new LinkedHashMap<>();
+		parametros.put("usuario", filtro.getUsuario().getId());
+		if(filtro.getAno() != null) {
+			sql.append(" AND ano = :ano");
+			parametros.put("ano", filtro.getAno());
+		}
+		if(filtro.getMes() != null) {
+			sql.append(" AND mes = :mes");
+			parametros.put("mes", filtro.getMes());
+		}
+		if(filtro.getTipo() != null) {
+			sql.append(" AND tipo = :tipo");
+			parametros.put("tipo", filtro.getTipo().name());
+		}
+		if(filtro.getStatus() != null) {
+			sql.append(" AND status = :status");
+			parametros.put("status", filtro.getStatus().name());
+		}
+		if(filtro.getDescricao() != null) {
+			sql.append(" AND lower(descricao) LIKE :descricao ESCAPE '").append(LancamentoSpecifications.ESCAPE).append("'");
+			parametros.put("descricao", LancamentoSpecifications.contendo(filtro.getDescricao()));
+		}
+		sql.append(" ORDER BY ano, mes, id");
+
+		GenericExecuteSpec consulta = client.sql(sql.toString());
+		for(Map.Entry<String, Object> parametro : parametros.entrySet()) {
+			consulta = consulta.bind(parametro.getKey(), parametro.getValue());
+		}
+		return consulta.map(this::converter).all();
+	}
+
+	public Mono<BigDecimal> obterSaldo(Long idUsuario) {
+		return client.sql("SELECT receitas - despesas AS saldo FROM financas.saldo_usuario WHERE id_usuario = :usuario")
+				.bind("usuario", idUsuario)
+				.map(linha -> linha.get("saldo", BigDecimal.class))
+				.one()
+				.switchIfEmpty(Mono.defer(() -> calcularSaldo(idUsuario)));
+	}
+
+	private Mono<BigDecimal> calcularSaldo(Long idUsuario) {
+		return client.sql("SELECT COALESCE(SUM(CASE WHEN tipo = 'RECEITA' THEN valor ELSE -valor END), 0) AS saldo "
+				+ "FROM financas.lancamento WHERE id_usuario = :usuario")
+				.bind("usuario", idUsuario)
+				.map(linha -> linha.get("saldo", BigDecimal.class))
+				.one();
+	}
+
+	private LancamentoConsultaDTO converter(Readable linha) {
+		String tipo = linha.get("tipo", String.class);
+		String status = linha.get("status", String.class);
+		return LancamentoConsultaDTO.builder()
+				.id(linha.get("id", Long.class))
+				.descricao(linha.get("descricao", String.class))
+				.mes(linha.get("mes", Integer.class))
+				.ano(linha.get("ano", Integer.class))
+				.valor(Dinheiro.de(linha.get("valor", BigDecimal.class)))
+				.dataCadastro(linha.get("data_cadastro", LocalDate.class))
+				.tipo(tipo == null ? null : TipoLancamento.valueOf(tipo))
+				.status(status == null ? null : StatusLancamento.valueOf(status))
+				.usuario(linha.get("id_usuario", Long.class))
+				.versao(linha.get("versao", Long.class))
+				.build();
+	}
+}
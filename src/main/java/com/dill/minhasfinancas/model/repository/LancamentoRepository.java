@@ -1,16 +1,69 @@
 package com.dill.minhasfinancas.model.repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.dill.minhasfinancas.model.entity.Lancamento;
-import com.dill.minhasfinancas.model.enums.TipoLancamento;
 
-public interface LancamentoRepository extends JpaRepository<Lancamento, Long> {
-	@Query(value = "SELECT SUM(l.valor) FROM Lancamento l JOIN l.usuario u "
-			+ "WHERE u.id = :idUsuario AND l.tipo = :tipo GROUP BY u")
-	BigDecimal obterSaldoPortipoLancamentoEUsuario(@Param("idUsuario") Long idUsuario, @Param("tipo") TipoLancamento tipo);
+import jakarta.persistence.QueryHint;
+
+public interface LancamentoRepository extends JpaRepository<Lancamento, Long>, JpaSpecificationExecutor<Lancamento>,
+		LancamentoRepositoryCustom {
+	
+	String VALOR_COM_SINAL = "CASE WHEN l.tipo = 'RECEITA' THEN l.valor ELSE -l.valor END";
+	
+	@Override
+	@EntityGraph(attributePaths = "usuario")
+	Optional<Lancamento> findById(Long id);
+	
+	@Query(value = "SELECT l.tipo AS tipo, l.status AS status, l.ano AS ano, l.mes AS mes, SUM(l.valor) AS total "
+			+ "FROM Lancamento l WHERE l.usuario.id = :idUsuario GROUP BY l.tipo, l.status, l.ano, l.mes")
+	List<ResumoLancamento> obterResumoPorUsuario(@Param("idUsuario") Long idUsuario);
+	
+	@Query(value = "SELECT l.tipo AS tipo, l.status AS status, l.ano AS ano, l.mes AS mes, SUM(l.valor) AS total "
+			+ "FROM Lancamento l WHERE l.usuario.id = :idUsuario AND l.ano = :ano AND l.mes BETWEEN 1 AND 12 GROUP BY l.tipo, l.status, l.ano, l.mes")
+	List<ResumoLancamento> obterResumoPorUsuarioEAno(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano);
+	
+	@Query(value = "SELECT l.ano AS ano, l.mes AS mes, l.valor AS valor, l.tipo AS tipo, l.status AS status "
+			+ "FROM Lancamento l WHERE l.usuario.id = :idUsuario AND l.mes BETWEEN 1 AND 12 ORDER BY l.ano, l.mes")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	Stream<ValorLancamento> consultarValoresPorUsuario(@Param("idUsuario") Long idUsuario);
+	
+	@Query(value = "SELECT l.id AS id, l.descricao AS descricao, l.ano AS ano, l.mes AS mes, l.valor AS valor, "
+			+ "l.tipo AS tipo, l.status AS status, SUM(" + VALOR_COM_SINAL + ") "
+			+ "OVER (ORDER BY l.ano, l.mes, l.id ROWS UNBOUNDED PRECEDING) AS acumulado "
+			+ "FROM financas.lancamento l WHERE l.id_usuario = :idUsuario AND (l.ano, l.mes, l.id) > (:ano, :mes, :id) "
+			+ "ORDER BY l.ano, l.mes, l.id LIMIT :limite", nativeQuery = true)
+	List<LinhaExtrato> consultarExtrato(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano,
+			@Param("mes") Integer mes, @Param("id") Long id, @Param("limite") int limite);
+	
+	@Query(value = "SELECT COALESCE(SUM(" + VALOR_COM_SINAL + "), 0) FROM financas.lancamento l "
+			+ "WHERE l.id_usuario = :idUsuario AND (l.ano, l.mes, l.id) <= (:ano, :mes, :id)", nativeQuery = true)
+	BigDecimal calcularSaldoAte(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano,
+			@Param("mes") Integer mes, @Param("id") Long id);
+	
+	@Query(value = "SELECT l.usuario.id AS idUsuario, l.tipo AS tipo, SUM(l.valor) AS total FROM Lancamento l "
+			+ "WHERE l.usuario.id IN :idsUsuario GROUP BY l.usuario.id, l.tipo")
+	List<TotalPorUsuarioETipo> obterTotaisPorUsuarioETipo(@Param("idsUsuario") Collection<Long> idsUsuario);
+
+	@Query(value = "SELECT l.hashImportacao FROM Lancamento l "
+			+ "WHERE l.usuario.id = :idUsuario AND l.hashImportacao IN :hashes")
+	Set<String> buscarHashesImportados(@Param("idUsuario") Long idUsuario, @Param("hashes") Collection<String> hashes);
+
+	@Modifying
+	@Query(value = "UPDATE Lancamento l SET l.idRecorrencia = :idRecorrencia WHERE l.id = :id")
+	int vincularRecorrencia(@Param("id") Long id, @Param("idRecorrencia") Long idRecorrencia);
 }
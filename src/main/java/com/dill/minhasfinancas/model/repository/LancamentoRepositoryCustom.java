@@ -0,0 +1,20 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+
+public interface LancamentoRepositoryCustom {
+
+	List<LancamentoConsultaDTO> consultar(Specification<Lancamento> specification, Sort sort, int limite);
+
+	Stream<LancamentoConsultaDTO> consultarEmFluxo(Specification<Lancamento> specification, Sort sort);
+
+	int atualizarStatus(Specification<Lancamento> specification, StatusLancamento status);
+}
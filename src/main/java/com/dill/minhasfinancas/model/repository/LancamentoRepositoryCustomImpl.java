@@ -0,0 +1,77 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+class LancamentoRepositoryCustomImpl implements LancamentoRepositoryCustom {
+
+	private static final int TAMANHO_FETCH = 500;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<LancamentoConsultaDTO> consultar(Specification<Lancamento> specification, Sort sort, int limite) {
+		TypedQuery<LancamentoConsultaDTO> query = criarConsulta(specification, sort);
+		if(limite > 0) {
+			query.setMaxResults(limite);
+		}
+		return query.getResultList();
+	}
+
+	@Override
+	public Stream<LancamentoConsultaDTO> consultarEmFluxo(Specification<Lancamento> specification, Sort sort) {
+		return criarConsulta(specification, sort)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, TAMANHO_FETCH)
+				.getResultStream();
+	}
+
+	@Override
+	public int atualizarStatus(Specification<Lancamento> specification, StatusLancamento status) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<Lancamento> update = cb.createCriteriaUpdate(Lancamento.class);
+		Root<Lancamento> root = update.from(Lancamento.class);
+		update.set(root.<StatusLancamento>get("status"), status);
+		update.set(root.<Long>get("versao"), cb.sum(root.<Long>get("versao"), 1L));
+		update.where(specification.toPredicate(root, null, cb));
+		return entityManager.createQuery(update).executeUpdate();
+	}
+
+	private TypedQuery<LancamentoConsultaDTO> criarConsulta(Specification<Lancamento> specification, Sort sort) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<LancamentoConsultaDTO> query = cb.createQuery(LancamentoConsultaDTO.class);
+		Root<Lancamento> root = query.from(Lancamento.class);
+		query.select(cb.construct(LancamentoConsultaDTO.class,
+				root.get("id"),
+				root.get("descricao"),
+				root.get("mes"),
+				root.get("ano"),
+				root.get("valor"),
+				root.get("dataCadastro"),
+				root.get("tipo"),
+				root.get("status"),
+				root.get("usuario").get("id"),
+				root.get("versao")));
+		query.where(specification.toPredicate(root, query, cb));
+		query.orderBy(toOrders(sort, root, cb));
+		return entityManager.createQuery(query);
+	}
+}
@@ -0,0 +1,75 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+
+import jakarta.persistence.criteria.Predicate;
+
+public final class LancamentoSpecifications {
+
+	static final char ESCAPE = '\\';
+
+	private LancamentoSpecifications() {
+	}
+
+	public static Specification<Lancamento> filtro(Lancamento filtro) {
+		return (root, query, cb) -> {
+			List<Predicate> predicados = new ArrayList<>();
+			if(filtro.getUsuario() != null && filtro.getUsuario().getId() != null) {
+				predicados.add(cb.equal(root.get("usuario").get("id"), filtro.getUsuario().getId()));
+			}
+			if(filtro.getId() != null) {
+				predicados.add(cb.equal(root.get("id"), filtro.getId()));
+			}
+			if(filtro.getAno() != null) {
+				predicados.add(cb.equal(root.get("ano"), filtro.getAno()));
+			}
+			if(filtro.getMes() != null) {
+				predicados.add(cb.equal(root.get("mes"), filtro.getMes()));
+			}
+			if(filtro.getTipo() != null) {
+				predicados.add(cb.equal(root.get("tipo"), filtro.getTipo()));
+			}
+			if(filtro.getStatus() != null) {
+				predicados.add(cb.equal(root.get("status"), filtro.getStatus()));
+			}
+			if(filtro.getValor() != null) {
+				predicados.add(cb.equal(root.get("valor"), filtro.getValor()));
+			}
+			if(filtro.getDescricao() != null) {
+				predicados.add(cb.like(cb.lower(root.get("descricao")), contendo(filtro.getDescricao()), ESCAPE));
+			}
+			return cb.and(predicados.toArray(new Predicate[0]));
+		};
+	}
+
+	public static Specification<Lancamento> aposPosicao(Integer ano, Integer mes, Long id) {
+		return (root, query, cb) -> cb.or(
+				cb.greaterThan(root.get("ano"), ano),
+				cb.and(cb.equal(root.get("ano"), ano), cb.greaterThan(root.get("mes"), mes)),
+				cb.and(cb.equal(root.get("ano"), ano), cb.equal(root.get("mes"), mes), cb.greaterThan(root.get("id"), id)));
+	}
+
+	public static Specification<Lancamento> idEm(Collection<Long> ids) {
+		return (root, query, cb) -> root.get("id").in(ids);
+	}
+
+	public static Specification<Lancamento> statusDiferenteDe(StatusLancamento status) {
+		return (root, query, cb) -> cb.notEqual(root.get("status"), status);
+	}
+
+	static String contendo(String texto) {
+		String escapado = texto.toLowerCase(Locale.ROOT)
+				.replace(String.valueOf(ESCAPE), "" + ESCAPE + ESCAPE)
+				.replace("%", ESCAPE + "%")
+				.replace("_", ESCAPE + "_");
+		return "%" + escapado + "%";
+	}
+}
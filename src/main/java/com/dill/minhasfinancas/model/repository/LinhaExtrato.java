@@ -0,0 +1,24 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.math.BigDecimal;
+
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+public interface LinhaExtrato {
+	Long getId();
+	
+	String getDescricao();
+	
+	Integer getAno();
+	
+	Integer getMes();
+	
+	BigDecimal getValor();
+	
+	TipoLancamento getTipo();
+	
+	StatusLancamento getStatus();
+	
+	BigDecimal getAcumulado();
+}
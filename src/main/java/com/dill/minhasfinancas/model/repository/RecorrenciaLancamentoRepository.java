@@ -0,0 +1,50 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.dill.minhasfinancas.model.entity.RecorrenciaLancamento;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface RecorrenciaLancamentoRepository extends JpaRepository<RecorrenciaLancamento, Long>,
+		RecorrenciaLancamentoRepositoryCustom {
+	
+	String OCORRENCIAS_DEVIDAS = "r.id IN :ids AND :competencia > r.ultimaCompetencia "
+			+ "AND MOD(:competencia - (r.anoInicio * 12 + r.mesInicio), r.intervaloMeses) = 0 "
+			+ "AND (r.dataFim IS NULL OR r.dataFim >= :inicio)";
+	
+	// a competência devida pode já estar ocupada por uma ocorrência que o usuário moveu para ela
+	String OCORRENCIAS_PENDENTES = "FROM RecorrenciaLancamento r WHERE " + OCORRENCIAS_DEVIDAS
+			+ " AND NOT EXISTS (SELECT 1 FROM Lancamento l WHERE l.idRecorrencia = r.id AND l.ano = :ano AND l.mes = :mes)";
+	
+	@Query(value = "SELECT r.id FROM RecorrenciaLancamento r WHERE r.id > :ultimoId "
+			+ "AND (r.dataFim IS NULL OR r.dataFim >= :inicio) ORDER BY r.id")
+	List<Long> buscarIdsAtivos(@Param("ultimoId") Long ultimoId, @Param("inicio") LocalDate inicio, Limit limite);
+	
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query(value = "SELECT r FROM RecorrenciaLancamento r WHERE r.id IN :ids")
+	List<RecorrenciaLancamento> bloquear(@Param("ids") Collection<Long> ids);
+	
+	@Query(value = "SELECT r.usuario.id AS idUsuario, r.tipo AS tipo, SUM(r.valor) AS total "
+			+ OCORRENCIAS_PENDENTES + " GROUP BY r.usuario.id, r.tipo")
+	List<TotalPorUsuarioETipo> totalizarOcorrenciasPendentes(@Param("ids") Collection<Long> ids,
+			@Param("ano") Integer ano, @Param("mes") Integer mes, @Param("competencia") Integer competencia,
+			@Param("inicio") LocalDate inicio);
+	
+	@Modifying
+	@Query(value = "UPDATE RecorrenciaLancamento r SET r.ultimaCompetencia = :competencia WHERE " + OCORRENCIAS_DEVIDAS)
+	int avancarCompetencia(@Param("ids") Collection<Long> ids, @Param("competencia") Integer competencia,
+			@Param("inicio") LocalDate inicio);
+}
@@ -0,0 +1,9 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface RecorrenciaLancamentoRepositoryCustom {
+
+	int gerarOcorrenciasPendentes(Collection<Long> ids, Integer ano, Integer mes, Integer competencia, LocalDate inicio);
+}
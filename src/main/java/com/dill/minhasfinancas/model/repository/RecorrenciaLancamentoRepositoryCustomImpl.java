@@ -0,0 +1,55 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import com.dill.minhasfinancas.model.entity.Lancamento;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class RecorrenciaLancamentoRepositoryCustomImpl implements RecorrenciaLancamentoRepositoryCustom {
+
+	private static final String SEQUENCIA_LANCAMENTO = "financas.lancamento_id_seq";
+
+	private static final String GERAR_OCORRENCIAS = "INSERT INTO financas.lancamento "
+			+ "(id, descricao, mes, ano, id_usuario, valor, data_cadastro, tipo, status, id_recorrencia, versao) "
+			+ "SELECT %s, r.descricao, :mes, :ano, r.id_usuario, r.valor, CURRENT_DATE, r.tipo, 'PENDENTE', r.id, 0 "
+			+ "FROM financas.recorrencia_lancamento r WHERE r.id IN (:ids) "
+			+ "AND :competencia > r.ultima_competencia "
+			+ "AND MOD(:competencia - (r.ano_inicio * 12 + r.mes_inicio), r.intervalo_meses) = 0 "
+			+ "AND (r.data_fim IS NULL OR r.data_fim >= :inicio) "
+			+ "AND NOT EXISTS (SELECT 1 FROM financas.lancamento l "
+			+ "WHERE l.id_recorrencia = r.id AND l.ano = :ano AND l.mes = :mes)";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private String gerarOcorrencias;
+
+	@Override
+	public int gerarOcorrenciasPendentes(Collection<Long> ids, Integer ano, Integer mes, Integer competencia, LocalDate inicio) {
+		return entityManager.createNativeQuery(sqlGerarOcorrencias())
+				.unwrap(NativeQuery.class)
+				.addSynchronizedEntityClass(Lancamento.class)
+				.setParameter("ids", ids)
+				.setParameter("ano", ano)
+				.setParameter("mes", mes)
+				.setParameter("competencia", competencia)
+				.setParameter("inicio", inicio)
+				.executeUpdate();
+	}
+
+	private String sqlGerarOcorrencias() {
+		if(gerarOcorrencias == null) {
+			String proximoId = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+					.getJdbcServices().getDialect().getSequenceSupport()
+					.getSelectSequenceNextValString(SEQUENCIA_LANCAMENTO);
+			gerarOcorrencias = String.format(GERAR_OCORRENCIAS, proximoId);
+		}
+		return gerarOcorrencias;
+	}
+}
@@ -0,0 +1,18 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.math.BigDecimal;
+
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+public interface ResumoLancamento {
+	TipoLancamento getTipo();
+	
+	StatusLancamento getStatus();
+	
+	Integer getAno();
+	
+	Integer getMes();
+	
+	BigDecimal getTotal();
+}
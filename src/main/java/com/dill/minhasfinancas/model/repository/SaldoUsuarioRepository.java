@@ -0,0 +1,48 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.dill.minhasfinancas.model.entity.SaldoUsuario;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface SaldoUsuarioRepository extends JpaRepository<SaldoUsuario, Long> {
+	
+	@Modifying
+	@Query(value = "UPDATE financas.saldo_usuario SET receitas = receitas + :receitas, despesas = despesas + :despesas, versao = versao + 1 "
+			+ "WHERE id_usuario = :idUsuario", nativeQuery = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "financas.saldo_usuario"))
+	int acumular(@Param("idUsuario") Long idUsuario, @Param("receitas") BigDecimal receitas,
+			@Param("despesas") BigDecimal despesas);
+	
+	@Modifying
+	@Query(value = "INSERT INTO financas.saldo_usuario AS s (id_usuario, receitas, despesas, versao) "
+			+ "VALUES (:idUsuario, :receitas, :despesas, " + SaldoUsuario.VERSAO_INICIAL + ") "
+			+ "ON CONFLICT (id_usuario) DO UPDATE SET receitas = s.receitas + EXCLUDED.receitas, "
+			+ "despesas = s.despesas + EXCLUDED.despesas, versao = s.versao + 1", nativeQuery = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "financas.saldo_usuario"))
+	int acumularOuCriar(@Param("idUsuario") Long idUsuario, @Param("receitas") BigDecimal receitas,
+			@Param("despesas") BigDecimal despesas);
+	
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query(value = "SELECT s.versao FROM SaldoUsuario s WHERE s.idUsuario = :idUsuario")
+	Optional<Long> bloquearVersao(@Param("idUsuario") Long idUsuario);
+	
+	@Query(value = "SELECT s.versao FROM SaldoUsuario s WHERE s.idUsuario = :idUsuario")
+	Optional<Long> obterVersao(@Param("idUsuario") Long idUsuario);
+	
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	List<SaldoUsuario> findByIdUsuarioIn(Collection<Long> idsUsuario);
+}
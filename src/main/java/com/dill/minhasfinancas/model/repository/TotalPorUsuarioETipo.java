@@ -0,0 +1,13 @@
+package com.dill.minhasfinancas.model.repository;
+
+import java.math.BigDecimal;
+
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+public interface TotalPorUsuarioETipo {
+	Long getIdUsuario();
+	
+	TipoLancamento getTipo();
+	
+	BigDecimal getTotal();
+}
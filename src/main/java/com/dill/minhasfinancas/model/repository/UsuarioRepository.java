@@ -1,13 +1,35 @@
 package com.dill.minhasfinancas.model.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.dill.minhasfinancas.model.entity.Usuario;
 
+import jakarta.persistence.QueryHint;
+
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+	@Cacheable(cacheNames = "emailsCadastrados")
 	boolean existsByEmail(String email);
 	
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "usuarioPorEmail")
+	})
 	Optional<Usuario> findByEmail(String email);
+	
+	@Override
+	@CacheEvict(cacheNames = "emailsCadastrados", key = "#p0.email", condition = "#p0.email != null")
+	<S extends Usuario> S save(S usuario);
+	
+	@Query(value = "SELECT u.id FROM Usuario u WHERE u.id > :id ORDER BY u.id")
+	List<Long> buscarIdsAPartirDe(@Param("id") Long id, Limit limite);
 }
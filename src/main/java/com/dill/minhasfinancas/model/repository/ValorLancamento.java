@@ -0,0 +1,17 @@
+package com.dill.minhasfinancas.model.repository;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+
+public interface ValorLancamento {
+	Integer getAno();
+	
+	Integer getMes();
+	
+	Dinheiro getValor();
+	
+	TipoLancamento getTipo();
+	
+	StatusLancamento getStatus();
+}
@@ -0,0 +1,9 @@
+package com.dill.minhasfinancas.service;
+
+import com.dill.minhasfinancas.api.dto.RelatorioAnualDTO;
+
+public interface AnaliseLancamentoService {
+	
+	RelatorioAnualDTO gerarRelatorioAnual(Long idUsuario, int ano);
+
+}
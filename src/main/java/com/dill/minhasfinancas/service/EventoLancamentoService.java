@@ -0,0 +1,14 @@
+package com.dill.minhasfinancas.service;
+
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.enums.TipoEventoLancamento;
+
+public interface EventoLancamentoService {
+	
+	void registrar(TipoEventoLancamento tipo, Lancamento lancamento);
+	
+	int despachar();
+	
+	int removerProcessados();
+
+}
@@ -0,0 +1,16 @@
+package com.dill.minhasfinancas.service;
+
+import java.util.Iterator;
+
+import com.dill.minhasfinancas.api.dto.ResultadoLoteDTO;
+import com.dill.minhasfinancas.importacao.RegistroExtrato;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+
+public interface ImportacaoExtratoService {
+	
+	ResultadoLoteDTO importar(Usuario usuario, Iterator<RegistroExtrato> registros);
+	
+	Lancamento converter(RegistroExtrato registro, Usuario usuario);
+
+}
@@ -0,0 +1,17 @@
+package com.dill.minhasfinancas.service;
+
+import java.math.BigDecimal;
+
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface LancamentoReativoService {
+	
+	Flux<LancamentoConsultaDTO> consultar(Lancamento lancamentoFiltro);
+	
+	Mono<BigDecimal> obterSaldoPorUsuario(Long idUsuario);
+
+}
@@ -1,27 +1,61 @@
 package com.dill.minhasfinancas.service;
 
 import java.math.BigDecimal;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.dill.minhasfinancas.api.dto.ConteudoVersionadoDTO;
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.api.dto.PaginaExtratoDTO;
+import com.dill.minhasfinancas.api.dto.PosicaoExtratoDTO;
+import com.dill.minhasfinancas.api.dto.ResultadoLoteDTO;
+import com.dill.minhasfinancas.api.dto.ResumoMensalDTO;
 import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
 import com.dill.minhasfinancas.model.enums.StatusLancamento;
 
 public interface LancamentoService {
 	
 	Lancamento salvar(Lancamento lancamento);
 	
+	ResultadoLoteDTO salvarEmLote(Usuario usuario, Iterator<Lancamento> lancamentos);
+	
 	Lancamento atualizar(Lancamento lancamento);
 	
+	Lancamento atualizarParcialmente(Long id, Long versaoEsperada, Consumer<Lancamento> alteracoes);
+	
 	void deletar(Lancamento lancamento);
 	List<Lancamento> buscar(Lancamento lancamentoFiltro);
 	
+	List<LancamentoConsultaDTO> consultar(Lancamento lancamentoFiltro);
+	
+	ConteudoVersionadoDTO<List<LancamentoConsultaDTO>> consultarComVersao(Lancamento lancamentoFiltro);
+	
+	Window<LancamentoConsultaDTO> consultarPagina(Lancamento lancamentoFiltro, KeysetScrollPosition posicao, int tamanho);
+	
+	PaginaExtratoDTO consultarExtrato(Long idUsuario, Integer anoInicial, PosicaoExtratoDTO posicao, int tamanho);
+	
+	void consultarEmFluxo(Lancamento lancamentoFiltro, Consumer<LancamentoConsultaDTO> consumidor);
+	
 	void atualizarStatus(Lancamento lancamento, StatusLancamento status);
 	
+	ConteudoVersionadoDTO<Integer> atualizarStatusEmLote(Lancamento lancamentoFiltro, List<Long> ids, StatusLancamento status, Long versaoEsperada);
+	
 	void validar(Lancamento lancamento);
 	
 	Optional<Lancamento> obterPorId(Long id);
 	
 	BigDecimal obterSaldoPorUsuario(Long id);
 	
+	ConteudoVersionadoDTO<BigDecimal> obterSaldoComVersao(Long id);
+	
+	long obterVersaoPorUsuario(Long id);
+	
+	List<ResumoMensalDTO> obterResumoAnual(Long idUsuario, Integer ano);
+	
 }
@@ -0,0 +1,9 @@
+package com.dill.minhasfinancas.service;
+
+public interface ParticaoLancamentoService {
+	
+	void garantirParticao(Integer ano, Integer mes);
+	
+	int manter();
+
+}
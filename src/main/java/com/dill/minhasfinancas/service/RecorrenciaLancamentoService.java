@@ -0,0 +1,22 @@
+package com.dill.minhasfinancas.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.RecorrenciaLancamento;
+
+public interface RecorrenciaLancamentoService {
+	
+	RecorrenciaLancamento criar(Lancamento lancamento, Integer intervaloMeses, LocalDate dataFim);
+	
+	RecorrenciaLancamento encerrar(RecorrenciaLancamento recorrencia, LocalDate dataFim);
+	
+	Optional<RecorrenciaLancamento> obterPorId(Long id);
+	
+	int gerar();
+	
+	int gerar(YearMonth de, YearMonth ate);
+
+}
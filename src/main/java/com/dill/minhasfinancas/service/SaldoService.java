@@ -0,0 +1,26 @@
+package com.dill.minhasfinancas.service;
+
+import java.math.BigDecimal;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+
+public interface SaldoService {
+	
+	void registrar(Lancamento lancamento);
+	
+	void estornar(Lancamento lancamento);
+	
+	void acumular(Long idUsuario, Dinheiro receitas, Dinheiro despesas);
+	
+	BigDecimal obterSaldo(Long idUsuario);
+	
+	long obterVersao(Long idUsuario);
+	
+	long bloquearVersao(Long idUsuario);
+	
+	void incrementarVersao(Long idUsuario);
+	
+	int reconciliar();
+
+}
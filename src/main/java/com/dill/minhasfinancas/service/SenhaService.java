@@ -0,0 +1,10 @@
+package com.dill.minhasfinancas.service;
+
+public interface SenhaService {
+
+	String codificar(String senha);
+	
+	boolean verificar(String senha, String senhaArmazenada);
+	
+	boolean precisaMigrar(String senhaArmazenada);
+}
@@ -0,0 +1,17 @@
+package com.dill.minhasfinancas.service;
+
+import java.util.Optional;
+
+import com.dill.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
+import com.dill.minhasfinancas.model.entity.Usuario;
+
+public interface TokenService {
+
+	String gerar(Usuario usuario);
+	
+	Optional<UsuarioAutenticadoDTO> validar(String token);
+	
+	String assinar(String conteudo);
+	
+	Optional<String> verificarAssinatura(String assinado);
+}
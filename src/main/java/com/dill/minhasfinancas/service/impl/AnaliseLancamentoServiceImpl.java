@@ -0,0 +1,117 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.dill.minhasfinancas.analise.SegmentoLancamentos;
+import com.dill.minhasfinancas.api.dto.RelatorioAnualDTO;
+import com.dill.minhasfinancas.api.dto.RelatorioMensalDTO;
+import com.dill.minhasfinancas.api.dto.RelatorioStatusDTO;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.LancamentoRepository;
+import com.dill.minhasfinancas.model.repository.ValorLancamento;
+import com.dill.minhasfinancas.service.AnaliseLancamentoService;
+import com.dill.minhasfinancas.service.SaldoService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import static com.dill.minhasfinancas.analise.SegmentoLancamentos.MESES;
+import static com.dill.minhasfinancas.analise.SegmentoLancamentos.TIPOS;
+import static com.dill.minhasfinancas.model.Dinheiro.deCentavos;
+
+@Service
+public class AnaliseLancamentoServiceImpl implements AnaliseLancamentoService {
+
+	private static final int RECEITA = TipoLancamento.RECEITA.ordinal();
+	private static final int DESPESA = TipoLancamento.DESPESA.ordinal();
+
+	private final LancamentoRepository repository;
+	private final SaldoService saldoService;
+	private final TransactionTemplate transacaoLeitura;
+	private final Cache<Long, SegmentoLancamentos> segmentos;
+
+	public AnaliseLancamentoServiceImpl(LancamentoRepository repository, SaldoService saldoService,
+			PlatformTransactionManager transactionManager,
+			@Value("${minhasfinancas.analise.cache.memoria:64MB}") DataSize memoriaCache) {
+		this.repository = repository;
+		this.saldoService = saldoService;
+		this.transacaoLeitura = new TransactionTemplate(transactionManager);
+		this.transacaoLeitura.setReadOnly(true);
+		this.segmentos = Caffeine.newBuilder()
+				.maximumWeight(memoriaCache.toBytes())
+				.weigher((Long idUsuario, SegmentoLancamentos segmento) -> segmento.getTamanhoEmBytes())
+				.build();
+	}
+
+	@Override
+	public RelatorioAnualDTO gerarRelatorioAnual(Long idUsuario, int ano) {
+		SegmentoLancamentos segmento = obterSegmento(idUsuario);
+		long[] totaisPorMes = segmento.totalizarPorMesETipo(ano);
+		long[] saldosAcumulados = segmento.acumularSaldoMensal(ano, totaisPorMes);
+		long[] totaisPorStatus = segmento.totalizarPorStatusETipo(ano);
+
+		List<RelatorioMensalDTO> meses = new ArrayList<>(MESES);
+		for(int i = 0; i < MESES; i++) {
+			long receitas = totaisPorMes[i * TIPOS + RECEITA];
+			long despesas = totaisPorMes[i * TIPOS + DESPESA];
+			meses.add(RelatorioMensalDTO.builder()
+					.mes(i + 1)
+					.receitas(deCentavos(receitas))
+					.despesas(deCentavos(despesas))
+					.saldo(deCentavos(receitas - despesas))
+					.saldoAcumulado(deCentavos(saldosAcumulados[i]))
+					.build());
+		}
+
+		List<RelatorioStatusDTO> status = new ArrayList<>();
+		for(StatusLancamento statusLancamento : StatusLancamento.values()) {
+			int base = statusLancamento.ordinal() * TIPOS;
+			status.add(RelatorioStatusDTO.builder()
+					.status(statusLancamento)
+					.receitas(deCentavos(totaisPorStatus[base + RECEITA]))
+					.despesas(deCentavos(totaisPorStatus[base + DESPESA]))
+					.build());
+		}
+
+		long saldoInicial = segmento.calcularSaldoAnteriorA(ano);
+		return RelatorioAnualDTO.builder()
+				.ano(ano)
+				.saldoInicial(deCentavos(saldoInicial))
+				.saldoFinal(deCentavos(saldosAcumulados[MESES - 1]))
+				.meses(meses)
+				.status(status)
+				.build();
+	}
+
+	SegmentoLancamentos obterSegmento(Long idUsuario) {
+		long versao = saldoService.obterVersao(idUsuario);
+		SegmentoLancamentos segmento = segmentos.getIfPresent(idUsuario);
+		if(segmento != null && segmento.getVersao() == versao) {
+			return segmento;
+		}
+		segmento = transacaoLeitura.execute(status -> carregar(idUsuario, saldoService.obterVersao(idUsuario)));
+		segmentos.put(idUsuario, segmento);
+		return segmento;
+	}
+
+	private SegmentoLancamentos carregar(Long idUsuario, long versao) {
+		SegmentoLancamentos.Construtor construtor = SegmentoLancamentos.construtor(versao);
+		try (Stream<ValorLancamento> valores = repository.consultarValoresPorUsuario(idUsuario)) {
+			valores.forEach(valor -> {
+				if(valor.getTipo() != null && valor.getValor() != null) {
+					construtor.adicionar(valor.getAno(), valor.getMes(), valor.getValor(), valor.getTipo(),
+							valor.getStatus() != null ? valor.getStatus() : StatusLancamento.PENDENTE);
+				}
+			});
+		}
+		return construtor.construir();
+	}
+}
@@ -0,0 +1,145 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dill.minhasfinancas.eventos.LancamentoEvento;
+import com.dill.minhasfinancas.model.entity.EventoLancamento;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.enums.TipoEventoLancamento;
+import com.dill.minhasfinancas.model.repository.EventoLancamentoRepository;
+import com.dill.minhasfinancas.service.EventoLancamentoService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class EventoLancamentoServiceImpl implements EventoLancamentoService {
+
+	private EventoLancamentoRepository repository;
+	private ApplicationEventPublisher publicador;
+	private TransactionTemplate transactionTemplate;
+	private int tamanhoLote;
+	private int tentativasMaximas;
+	private Duration retencao;
+	private Duration esperaInicial;
+	private Duration esperaMaxima;
+	private Clock relogio;
+
+	@Autowired
+	public EventoLancamentoServiceImpl(EventoLancamentoRepository repository, ApplicationEventPublisher publicador,
+			TransactionTemplate transactionTemplate,
+			@Value("${minhasfinancas.eventos.lote:200}") int tamanhoLote,
+			@Value("${minhasfinancas.eventos.tentativas:5}") int tentativasMaximas,
+			@Value("${minhasfinancas.eventos.retencao:7d}") Duration retencao,
+			@Value("${minhasfinancas.eventos.espera-inicial:10s}") Duration esperaInicial,
+			@Value("${minhasfinancas.eventos.espera-maxima:10m}") Duration esperaMaxima) {
+		this(repository, publicador, transactionTemplate, tamanhoLote, tentativasMaximas, retencao,
+				esperaInicial, esperaMaxima, Clock.systemDefaultZone());
+	}
+
+	public EventoLancamentoServiceImpl(EventoLancamentoRepository repository, ApplicationEventPublisher publicador,
+			TransactionTemplate transactionTemplate, int tamanhoLote, int tentativasMaximas, Duration retencao,
+			Duration esperaInicial, Duration esperaMaxima, Clock relogio) {
+		this.repository = repository;
+		this.publicador = publicador;
+		this.transactionTemplate = transactionTemplate;
+		this.tamanhoLote = tamanhoLote;
+		this.tentativasMaximas = tentativasMaximas;
+		this.retencao = retencao;
+		this.esperaInicial = esperaInicial;
+		this.esperaMaxima = esperaMaxima;
+		this.relogio = relogio;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void registrar(TipoEventoLancamento tipo, Lancamento lancamento) {
+		Objects.requireNonNull(lancamento.getId());
+		repository.save(EventoLancamento.builder()
+				.tipo(tipo)
+				.idLancamento(lancamento.getId())
+				.idUsuario(lancamento.getUsuario().getId())
+				.ano(lancamento.getAno())
+				.mes(lancamento.getMes())
+				.valor(lancamento.getValor())
+				.tipoLancamento(lancamento.getTipo())
+				.status(lancamento.getStatus())
+				.dataCriacao(LocalDateTime.now(relogio))
+				.build());
+	}
+
+	@Override
+	@Scheduled(cron = "${minhasfinancas.eventos.despacho.cron:-}")
+	public int despachar() {
+		int despachados = 0;
+		ResultadoLote lote;
+		do {
+			lote = transactionTemplate.execute(status -> despacharLote());
+			despachados += lote.despachados();
+		}while(lote.buscados() == tamanhoLote && lote.despachados() > 0);
+		return despachados;
+	}
+
+	private ResultadoLote despacharLote() {
+		LocalDateTime agora = LocalDateTime.now(relogio);
+		List<EventoLancamento> eventos = repository.buscarPendentes(tentativasMaximas, agora, Limit.of(tamanhoLote));
+		int despachados = 0;
+		for(EventoLancamento evento : eventos) {
+			try {
+				publicador.publishEvent(converter(evento));
+				evento.setDataProcessamento(agora);
+				despachados++;
+			}catch(RuntimeException e) {
+				evento.setTentativas(evento.getTentativas() + 1);
+				evento.setProximaTentativa(agora.plus(espera(evento.getTentativas())));
+				log.warn("Falha ao despachar o evento {} do lançamento {} (tentativa {}): {}", evento.getTipo(),
+						evento.getIdLancamento(), evento.getTentativas(), e.getMessage());
+			}
+		}
+		return new ResultadoLote(eventos.size(), despachados);
+	}
+
+	private Duration espera(int tentativas) {
+		Duration espera = esperaInicial.multipliedBy(1L << Math.min(tentativas - 1, 20));
+		return espera.compareTo(esperaMaxima) > 0 ? esperaMaxima : espera;
+	}
+
+	@Override
+	@Transactional
+	@Scheduled(cron = "${minhasfinancas.eventos.limpeza.cron:-}")
+	public int removerProcessados() {
+		return repository.removerProcessadosAntesDe(LocalDateTime.now(relogio).minus(retencao));
+	}
+
+	private LancamentoEvento converter(EventoLancamento evento) {
+		return LancamentoEvento.builder()
+				.id(evento.getId())
+				.tipo(evento.getTipo())
+				.idLancamento(evento.getIdLancamento())
+				.idUsuario(evento.getIdUsuario())
+				.ano(evento.getAno())
+				.mes(evento.getMes())
+				.valor(evento.getValor())
+				.tipoLancamento(evento.getTipoLancamento())
+				.status(evento.getStatus())
+				.dataCriacao(evento.getDataCriacao())
+				.build();
+	}
+
+	private record ResultadoLote(int buscados, int despachados) {
+	}
+}
@@ -0,0 +1,174 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dill.minhasfinancas.api.dto.ResultadoLoteDTO;
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.importacao.RegistroExtrato;
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.LancamentoRepository;
+import com.dill.minhasfinancas.service.ImportacaoExtratoService;
+import com.dill.minhasfinancas.service.LancamentoService;
+import com.dill.minhasfinancas.service.ParticaoLancamentoService;
+import com.dill.minhasfinancas.service.SaldoService;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class ImportacaoExtratoServiceImpl implements ImportacaoExtratoService {
+
+	private static final int TAMANHO_MAXIMO_DESCRICAO = 255;
+
+	private LancamentoRepository repository;
+	private LancamentoService lancamentoService;
+	private SaldoService saldoService;
+	private ParticaoLancamentoService particaoService;
+	private EntityManager entityManager;
+	private int tamanhoLote;
+
+	public ImportacaoExtratoServiceImpl(LancamentoRepository repository, LancamentoService lancamentoService,
+			SaldoService saldoService, ParticaoLancamentoService particaoService, EntityManager entityManager,
+			@Value("${minhasfinancas.lote.tamanho:500}") int tamanhoLote) {
+		this.repository = repository;
+		this.lancamentoService = lancamentoService;
+		this.saldoService = saldoService;
+		this.particaoService = particaoService;
+		this.entityManager = entityManager;
+		this.tamanhoLote = tamanhoLote;
+	}
+
+	@Override
+	@Transactional
+	public ResultadoLoteDTO importar(Usuario usuario, Iterator<RegistroExtrato> registros) {
+		Session session = entityManager.unwrap(Session.class);
+		Integer tamanhoLoteAnterior = session.getJdbcBatchSize();
+		session.setJdbcBatchSize(tamanhoLote);
+		CacheMode modoCacheAnterior = session.getCacheMode();
+		session.setCacheMode(CacheMode.IGNORE);
+
+		Importacao importacao = new Importacao(usuario);
+		Map<String, Integer> ocorrencias = new HashMap<>();
+		try {
+			while(registros.hasNext()) {
+				ResultadoLoteDTO resultado = importacao.resultado;
+				resultado.setTotal(resultado.getTotal() + 1);
+				try {
+					RegistroExtrato registro = registros.next();
+					String chave = chave(registro);
+					int ocorrencia = ocorrencias.merge(chave, 1, Integer::sum);
+
+					Lancamento lancamento = converter(registro, usuario);
+					lancamento.setHashImportacao(hash(chave + "#" + ocorrencia));
+					lancamentoService.validar(lancamento);
+					particaoService.garantirParticao(lancamento.getAno(), lancamento.getMes());
+					importacao.pendentes.add(lancamento);
+				}catch(RegraNegocioException e) {
+					resultado.adicionarErro(resultado.getTotal(), e.getMessage());
+				}
+				if(importacao.pendentes.size() == tamanhoLote) {
+					gravar(importacao);
+				}
+			}
+			gravar(importacao);
+		}finally {
+			session.setJdbcBatchSize(tamanhoLoteAnterior);
+			session.setCacheMode(modoCacheAnterior);
+		}
+
+		saldoService.acumular(usuario.getId(), importacao.receitas, importacao.despesas);
+		return importacao.resultado;
+	}
+
+	private void gravar(Importacao importacao) {
+		if(importacao.pendentes.isEmpty()) {
+			return;
+		}
+		Set<String> hashes = new HashSet<>();
+		for(Lancamento lancamento : importacao.pendentes) {
+			hashes.add(lancamento.getHashImportacao());
+		}
+		Set<String> existentes = new HashSet<>(repository.buscarHashesImportados(importacao.usuario.getId(), hashes));
+
+		ResultadoLoteDTO resultado = importacao.resultado;
+		for(Lancamento lancamento : importacao.pendentes) {
+			if(!existentes.add(lancamento.getHashImportacao())) {
+				resultado.setDuplicados(resultado.getDuplicados() + 1);
+				continue;
+			}
+			lancamento.setStatus(StatusLancamento.PENDENTE);
+			entityManager.persist(lancamento);
+			if(lancamento.getTipo() == TipoLancamento.RECEITA) {
+				importacao.receitas = importacao.receitas.somar(lancamento.getValor());
+			}else {
+				importacao.despesas = importacao.despesas.somar(lancamento.getValor());
+			}
+			resultado.setInseridos(resultado.getInseridos() + 1);
+		}
+		entityManager.flush();
+		entityManager.clear();
+		importacao.pendentes.clear();
+	}
+
+	@Override
+	public Lancamento converter(RegistroExtrato registro, Usuario usuario) {
+		String descricao = registro.getDescricao();
+		if(descricao != null && descricao.length() > TAMANHO_MAXIMO_DESCRICAO) {
+			descricao = descricao.substring(0, TAMANHO_MAXIMO_DESCRICAO);
+		}
+		return Lancamento.builder()
+				.descricao(descricao)
+				.mes(registro.getData().getMonthValue())
+				.ano(registro.getData().getYear())
+				.valor(registro.getValor().abs())
+				.tipo(registro.getValor().signum() < 0 ? TipoLancamento.DESPESA : TipoLancamento.RECEITA)
+				.usuario(usuario)
+				.build();
+	}
+
+	private String chave(RegistroExtrato registro) {
+		return registro.getData() + "|" + registro.getValor().stripTrailingZeros().toPlainString()
+				+ "|" + registro.getDescricao() + "|" + registro.getIdentificador();
+	}
+
+	private String hash(String conteudo) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(conteudo.getBytes(StandardCharsets.UTF_8)));
+		}catch(NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class Importacao {
+		private final Usuario usuario;
+		private final ResultadoLoteDTO resultado = new ResultadoLoteDTO();
+		private final List<Lancamento> pendentes = new ArrayList<>();
+		private Dinheiro receitas = Dinheiro.ZERO;
+		private Dinheiro despesas = Dinheiro.ZERO;
+
+		private Importacao(Usuario usuario) {
+			this.usuario = usuario;
+		}
+	}
+}
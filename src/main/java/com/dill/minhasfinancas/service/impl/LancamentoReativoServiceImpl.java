@@ -0,0 +1,36 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.repository.LancamentoReativoRepository;
+import com.dill.minhasfinancas.service.LancamentoReativoService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class LancamentoReativoServiceImpl implements LancamentoReativoService {
+
+	private LancamentoReativoRepository repository;
+
+	public LancamentoReativoServiceImpl(LancamentoReativoRepository repository) {
+		this.repository = repository;
+	}
+
+	@Override
+	public Flux<LancamentoConsultaDTO> consultar(Lancamento lancamentoFiltro) {
+		Objects.requireNonNull(lancamentoFiltro.getUsuario().getId());
+		return repository.consultar(lancamentoFiltro);
+	}
+
+	@Override
+	public Mono<BigDecimal> obterSaldoPorUsuario(Long idUsuario) {
+		Objects.requireNonNull(idUsuario);
+		return repository.obterSaldo(idUsuario);
+	}
+}
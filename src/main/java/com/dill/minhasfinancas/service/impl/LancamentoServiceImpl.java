@@ -1,46 +1,181 @@
 package com.dill.minhasfinancas.service.impl;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
-import org.springframework.data.domain.ExampleMatcher.StringMatcher;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dill.minhasfinancas.api.dto.ConteudoVersionadoDTO;
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.api.dto.LinhaExtratoDTO;
+import com.dill.minhasfinancas.api.dto.PaginaExtratoDTO;
+import com.dill.minhasfinancas.api.dto.PosicaoExtratoDTO;
+import com.dill.minhasfinancas.api.dto.ResultadoLoteDTO;
+import com.dill.minhasfinancas.api.dto.ResumoMensalDTO;
 import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.exceptions.VersaoDesatualizadaException;
+import com.dill.minhasfinancas.model.Dinheiro;
 import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
 import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoEventoLancamento;
 import com.dill.minhasfinancas.model.enums.TipoLancamento;
 import com.dill.minhasfinancas.model.repository.LancamentoRepository;
+import com.dill.minhasfinancas.model.repository.LancamentoSpecifications;
+import com.dill.minhasfinancas.model.repository.LinhaExtrato;
+import com.dill.minhasfinancas.model.repository.ResumoLancamento;
+import com.dill.minhasfinancas.service.EventoLancamentoService;
 import com.dill.minhasfinancas.service.LancamentoService;
+import com.dill.minhasfinancas.service.ParticaoLancamentoService;
+import com.dill.minhasfinancas.service.SaldoService;
+
+import jakarta.persistence.EntityManager;
 
 @Service
 public class LancamentoServiceImpl implements LancamentoService{
 	
+	private static final Sort ORDEM_PAGINACAO = Sort.by("ano", "mes", "id");
+	private static final int LIMITE_IDS_STATUS_LOTE = 1000;
+	
 	private LancamentoRepository repository;
+	private EntityManager entityManager;
+	private SaldoService saldoService;
+	private ParticaoLancamentoService particaoService;
+	private EventoLancamentoService eventoService;
+	private int tamanhoLote;
 	
-	public LancamentoServiceImpl(LancamentoRepository repository) {
+	public LancamentoServiceImpl(LancamentoRepository repository, EntityManager entityManager, SaldoService saldoService,
+			ParticaoLancamentoService particaoService, EventoLancamentoService eventoService,
+			@Value("${minhasfinancas.lote.tamanho:500}") int tamanhoLote) {
 		this.repository = repository;
+		this.entityManager = entityManager;
+		this.saldoService = saldoService;
+		this.particaoService = particaoService;
+		this.eventoService = eventoService;
+		this.tamanhoLote = tamanhoLote;
 	}
 	
 	@Override
 	@Transactional
 	public Lancamento salvar(Lancamento lancamento) {	
 		validar(lancamento);
+		particaoService.garantirParticao(lancamento.getAno(), lancamento.getMes());
 		lancamento.setStatus(StatusLancamento.PENDENTE);
-		return repository.save(lancamento);
+		Lancamento lancamentoSalvo = repository.save(lancamento);
+		saldoService.registrar(lancamentoSalvo);
+		eventoService.registrar(TipoEventoLancamento.CRIADO, lancamentoSalvo);
+		return lancamentoSalvo;
+	}
+
+	@Override
+	@Transactional
+	public ResultadoLoteDTO salvarEmLote(Usuario usuario, Iterator<Lancamento> lancamentos) {
+		Objects.requireNonNull(usuario.getId());
+		Session session = entityManager.unwrap(Session.class);
+		Integer tamanhoLoteAnterior = session.getJdbcBatchSize();
+		session.setJdbcBatchSize(tamanhoLote);
+		CacheMode modoCacheAnterior = session.getCacheMode();
+		session.setCacheMode(CacheMode.IGNORE);
+		
+		ResultadoLoteDTO resultado = new ResultadoLoteDTO();
+		Dinheiro receitas = Dinheiro.ZERO;
+		Dinheiro despesas = Dinheiro.ZERO;
+		int pendentes = 0;
+		try {
+			while(lancamentos.hasNext()) {
+				resultado.setTotal(resultado.getTotal() + 1);
+				try {
+					Lancamento lancamento = lancamentos.next();
+					lancamento.setId(null);
+					lancamento.setUsuario(usuario);
+					validar(lancamento);
+					particaoService.garantirParticao(lancamento.getAno(), lancamento.getMes());
+					lancamento.setStatus(StatusLancamento.PENDENTE);
+					entityManager.persist(lancamento);
+				
+					if(lancamento.getTipo() == TipoLancamento.RECEITA) {
+						receitas = receitas.somar(lancamento.getValor());
+					}else {
+						despesas = despesas.somar(lancamento.getValor());
+					}
+					resultado.setInseridos(resultado.getInseridos() + 1);
+					if(++pendentes == tamanhoLote) {
+						entityManager.flush();
+						entityManager.clear();
+						pendentes = 0;
+					}
+				}catch(RegraNegocioException e) {
+					resultado.adicionarErro(resultado.getTotal(), e.getMessage());
+				}
+			}
+			entityManager.flush();
+			entityManager.clear();
+		}finally {
+			session.setJdbcBatchSize(tamanhoLoteAnterior);
+			session.setCacheMode(modoCacheAnterior);
+		}
+		
+		saldoService.acumular(usuario.getId(), receitas, despesas);
+		return resultado;
 	}
 
 	@Override
 	@Transactional
 	public Lancamento atualizar(Lancamento lancamento) {
+		return atualizar(lancamento, TipoEventoLancamento.ATUALIZADO);
+	}
+
+	private Lancamento atualizar(Lancamento lancamento, TipoEventoLancamento tipoEvento) {
 		Objects.requireNonNull(lancamento.getId());
 		validar(lancamento);
-		return repository.save(lancamento);
+		particaoService.garantirParticao(lancamento.getAno(), lancamento.getMes());
+		Optional<Lancamento> anterior = repository.findById(lancamento.getId()).map(this::copiarValores);
+		Lancamento lancamentoAtualizado = repository.save(lancamento);
+		anterior.ifPresent(saldoService::estornar);
+		saldoService.registrar(lancamentoAtualizado);
+		eventoService.registrar(tipoEvento, lancamentoAtualizado);
+		return lancamentoAtualizado;
+	}
+
+	@Override
+	@Transactional
+	public Lancamento atualizarParcialmente(Long id, Long versaoEsperada, Consumer<Lancamento> alteracoes) {
+		Lancamento lancamento = repository.findById(id)
+				.orElseThrow(() -> new RegraNegocioException("Lancamento não encontrado na base de Dados"));
+		if(versaoEsperada != null && !versaoEsperada.equals(lancamento.getVersao())) {
+			throw new VersaoDesatualizadaException("O lançamento foi alterado por outra requisição, consulte-o novamente");
+		}
+		Lancamento anterior = copiarValores(lancamento);
+		alteracoes.accept(lancamento);
+		validar(lancamento);
+		// a busca por id já bloqueou todas as partições; uma competência nova fica na partição padrão até a manutenção
+		if(anterior.getTipo() != lancamento.getTipo() || anterior.getValor().compareTo(lancamento.getValor()) != 0) {
+			saldoService.estornar(anterior);
+			saldoService.registrar(lancamento);
+		}else {
+			saldoService.incrementarVersao(lancamento.getUsuario().getId());
+		}
+		eventoService.registrar(TipoEventoLancamento.ATUALIZADO, lancamento);
+		return lancamento;
 	}
 
 	@Override
@@ -48,24 +183,146 @@ public class LancamentoServiceImpl implements LancamentoService{
 	public void deletar(Lancamento lancamento) {
 		Objects.requireNonNull(lancamento.getId());
 		repository.delete(lancamento);
-		
+		saldoService.estornar(lancamento);
+		eventoService.registrar(TipoEventoLancamento.REMOVIDO, lancamento);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public List<Lancamento> buscar(Lancamento lancamentoFiltro) {
-		Example<Lancamento> example = Example.of(lancamentoFiltro,
-				ExampleMatcher.matching()
-				.withIgnoreCase()
-				.withStringMatcher(StringMatcher.CONTAINING));
-		return repository.findAll(example);
+		return repository.findAll(LancamentoSpecifications.filtro(lancamentoFiltro));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<LancamentoConsultaDTO> consultar(Lancamento lancamentoFiltro) {
+		return repository.consultar(LancamentoSpecifications.filtro(lancamentoFiltro), ORDEM_PAGINACAO, 0);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ConteudoVersionadoDTO<List<LancamentoConsultaDTO>> consultarComVersao(Lancamento lancamentoFiltro) {
+		long versao = saldoService.obterVersao(lancamentoFiltro.getUsuario().getId());
+		return new ConteudoVersionadoDTO<>(versao, consultar(lancamentoFiltro));
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public Window<LancamentoConsultaDTO> consultarPagina(Lancamento lancamentoFiltro, KeysetScrollPosition posicao, int tamanho) {
+		Specification<Lancamento> specification = LancamentoSpecifications.filtro(lancamentoFiltro);
+		if(!posicao.isInitial()) {
+			Map<String, ?> chaves = posicao.getKeys();
+			specification = specification.and(LancamentoSpecifications.aposPosicao(
+					(Integer) chaves.get("ano"), (Integer) chaves.get("mes"), (Long) chaves.get("id")));
+		}
+		List<LancamentoConsultaDTO> lancamentos = repository.consultar(specification, ORDEM_PAGINACAO, tamanho + 1);
+		boolean possuiProxima = lancamentos.size() > tamanho;
+		List<LancamentoConsultaDTO> pagina = possuiProxima ? lancamentos.subList(0, tamanho) : lancamentos;
+		return Window.from(pagina, indice -> posicaoDe(pagina.get(indice)), possuiProxima);
+	}
+
+	@Override
+	@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+	public PaginaExtratoDTO consultarExtrato(Long idUsuario, Integer anoInicial, PosicaoExtratoDTO posicao, int tamanho) {
+		Objects.requireNonNull(idUsuario);
+		long versao = saldoService.obterVersao(idUsuario);
+		Integer ano = 0;
+		Integer mes = 0;
+		Long id = 0L;
+		Dinheiro saldoAnterior = Dinheiro.ZERO;
+		if(posicao != null) {
+			ano = posicao.getAno();
+			mes = posicao.getMes();
+			id = posicao.getId();
+			saldoAnterior = posicao.getVersao() == versao
+					? posicao.getSaldo()
+					: Dinheiro.de(repository.calcularSaldoAte(idUsuario, ano, mes, id));
+		}else if(anoInicial != null) {
+			ano = anoInicial;
+			saldoAnterior = Dinheiro.de(repository.calcularSaldoAte(idUsuario, ano, mes, id));
+		}
+
+		List<LinhaExtrato> linhas = repository.consultarExtrato(idUsuario, ano, mes, id, tamanho + 1);
+		boolean possuiProxima = linhas.size() > tamanho;
+		List<LinhaExtratoDTO> lancamentos = new ArrayList<>(Math.min(linhas.size(), tamanho));
+		Dinheiro saldo = saldoAnterior;
+		for(LinhaExtrato linha : possuiProxima ? linhas.subList(0, tamanho) : linhas) {
+			saldo = saldoAnterior.somar(Dinheiro.de(linha.getAcumulado()));
+			lancamentos.add(LinhaExtratoDTO.builder()
+					.id(linha.getId())
+					.descricao(linha.getDescricao())
+					.mes(linha.getMes())
+					.ano(linha.getAno())
+					.valor(Dinheiro.de(linha.getValor()))
+					.tipo(linha.getTipo())
+					.status(linha.getStatus())
+					.saldo(saldo)
+					.build());
+		}
+		return PaginaExtratoDTO.builder()
+				.lancamentos(lancamentos)
+				.saldoAnterior(saldoAnterior)
+				.saldoFinal(saldo)
+				.versao(versao)
+				.possuiProxima(possuiProxima)
+				.build();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void consultarEmFluxo(Lancamento lancamentoFiltro, Consumer<LancamentoConsultaDTO> consumidor) {
+		Objects.requireNonNull(lancamentoFiltro.getUsuario());
+		try (Stream<LancamentoConsultaDTO> lancamentos = repository.consultarEmFluxo(LancamentoSpecifications.filtro(lancamentoFiltro), ORDEM_PAGINACAO)) {
+			lancamentos.forEach(consumidor);
+		}
+	}
+
+	@Override
+	@Transactional
 	public void atualizarStatus(Lancamento lancamento, StatusLancamento status) {
 		lancamento.setStatus(status);
-		atualizar(lancamento);
+		atualizar(lancamento, TipoEventoLancamento.STATUS_ALTERADO);
+	}
+	
+	@Override
+	@Transactional
+	public ConteudoVersionadoDTO<Integer> atualizarStatusEmLote(Lancamento lancamentoFiltro, List<Long> ids, StatusLancamento status, Long versaoEsperada) {
+		Objects.requireNonNull(lancamentoFiltro.getUsuario().getId());
+		if(status != StatusLancamento.EFETIVADO && status != StatusLancamento.CANCELADO) {
+			throw new RegraNegocioException("Informe o status EFETIVADO ou CANCELADO");
+		}
+		if(ids != null && ids.size() > LIMITE_IDS_STATUS_LOTE) {
+			throw new RegraNegocioException("Informe no máximo " + LIMITE_IDS_STATUS_LOTE + " lançamentos por requisição");
+		}
+		Long idUsuario = lancamentoFiltro.getUsuario().getId();
+		long versao = saldoService.bloquearVersao(idUsuario);
+		if(versaoEsperada != null && versao != versaoEsperada) {
+			throw new VersaoDesatualizadaException("Os lançamentos foram alterados por outra requisição, consulte-os novamente");
+		}
 		
+		Specification<Lancamento> specification = LancamentoSpecifications.filtro(lancamentoFiltro)
+				.and(LancamentoSpecifications.statusDiferenteDe(status));
+		if(ids != null && !ids.isEmpty()) {
+			specification = specification.and(LancamentoSpecifications.idEm(ids));
+		}
+		List<LancamentoConsultaDTO> afetados = repository.consultar(specification, ORDEM_PAGINACAO, 0);
+		if(afetados.isEmpty()) {
+			return new ConteudoVersionadoDTO<>(versao, 0);
+		}
+		int atualizados = repository.atualizarStatus(specification, status);
+		for(LancamentoConsultaDTO afetado : afetados) {
+			eventoService.registrar(TipoEventoLancamento.STATUS_ALTERADO, Lancamento.builder()
+					.id(afetado.getId())
+					.usuario(lancamentoFiltro.getUsuario())
+					.ano(afetado.getAno())
+					.mes(afetado.getMes())
+					.valor(afetado.getValor())
+					.tipo(afetado.getTipo())
+					.status(status)
+					.build());
+		}
+		saldoService.incrementarVersao(idUsuario);
+		return new ConteudoVersionadoDTO<>(versao + 1, atualizados);
 	}
 	
 	@Override
@@ -82,7 +339,7 @@ public class LancamentoServiceImpl implements LancamentoService{
 		if(lancamento.getUsuario() == null || lancamento.getUsuario().getId() == null) {
 			throw new RegraNegocioException("Informe um usuário");
 		}
-		if(lancamento.getValor() == null || lancamento.getValor().compareTo(BigDecimal.ZERO) < 1) {
+		if(lancamento.getValor() == null || !lancamento.getValor().isPositivo()) {
 			throw new RegraNegocioException("Informe um valor válido");
 		}
 		if(lancamento.getTipo() == null) {
@@ -98,15 +355,65 @@ public class LancamentoServiceImpl implements LancamentoService{
 	@Override
 	@Transactional(readOnly = true)
 	public BigDecimal obterSaldoPorUsuario(Long id) {		
-		BigDecimal receitas = repository.obterSaldoPortipoLancamentoEUsuario(id, TipoLancamento.RECEITA);
-		BigDecimal despesas = repository.obterSaldoPortipoLancamentoEUsuario(id, TipoLancamento.DESPESA);
-		if(receitas == null) {
-			receitas = BigDecimal.ZERO;
+		return saldoService.obterSaldo(id);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public ConteudoVersionadoDTO<BigDecimal> obterSaldoComVersao(Long id) {
+		long versao = saldoService.obterVersao(id);
+		return new ConteudoVersionadoDTO<>(versao, saldoService.obterSaldo(id));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public long obterVersaoPorUsuario(Long id) {
+		return saldoService.obterVersao(id);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<ResumoMensalDTO> obterResumoAnual(Long idUsuario, Integer ano) {
+		Dinheiro[] receitas = new Dinheiro[12];
+		Dinheiro[] despesas = new Dinheiro[12];
+		Arrays.fill(receitas, Dinheiro.ZERO);
+		Arrays.fill(despesas, Dinheiro.ZERO);
+		for(ResumoLancamento resumo : repository.obterResumoPorUsuarioEAno(idUsuario, ano)) {
+			int indice = resumo.getMes() - 1;
+			if(resumo.getTipo() == TipoLancamento.RECEITA) {
+				receitas[indice] = receitas[indice].somar(Dinheiro.de(resumo.getTotal()));
+			}else {
+				despesas[indice] = despesas[indice].somar(Dinheiro.de(resumo.getTotal()));
+			}
 		}
-		if(despesas == null) {
-			receitas = BigDecimal.ZERO;
+		
+		List<ResumoMensalDTO> meses = new ArrayList<>(12);
+		for(int i = 0; i < 12; i++) {
+			meses.add(ResumoMensalDTO.builder()
+					.mes(i + 1)
+					.receitas(receitas[i].paraBigDecimal())
+					.despesas(despesas[i].paraBigDecimal())
+					.saldo(receitas[i].subtrair(despesas[i]).paraBigDecimal())
+					.build());
 		}
-		return receitas.subtract(despesas);
+		return meses;
+	}
+	
+	private ScrollPosition posicaoDe(LancamentoConsultaDTO lancamento) {
+		Map<String, Object> chaves = new LinkedHashMap<>();
+		chaves.put("ano", lancamento.getAno());
+		chaves.put("mes", lancamento.getMes());
+		chaves.put("id", lancamento.getId());
+		return ScrollPosition.forward(chaves);
+	}
+	
+	private Lancamento copiarValores(Lancamento lancamento) {
+		return Lancamento.builder()
+				.id(lancamento.getId())
+				.usuario(lancamento.getUsuario())
+				.tipo(lancamento.getTipo())
+				.valor(lancamento.getValor())
+				.build();
 	}
 	
 
@@ -0,0 +1,109 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dill.minhasfinancas.service.ParticaoLancamentoService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ParticaoLancamentoServiceImpl implements ParticaoLancamentoService {
+
+	private static final String TABELA_PARTICIONADA = "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p "
+			+ "JOIN pg_class c ON c.oid = p.partrelid JOIN pg_namespace n ON n.oid = c.relnamespace "
+			+ "WHERE n.nspname = 'financas' AND c.relname = 'lancamento')";
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transacaoSeparada;
+	private long tempoMaximoBloqueio;
+	private int mesesAntecipados;
+	private final Set<YearMonth> verificadas = ConcurrentHashMap.newKeySet();
+	private volatile Boolean particionada;
+
+	public ParticaoLancamentoServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+			@Value("${minhasfinancas.particao.tempo-maximo-bloqueio:1s}") Duration tempoMaximoBloqueio,
+			@Value("${minhasfinancas.particao.meses-antecipados:3}") int mesesAntecipados) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transacaoSeparada = new TransactionTemplate(transactionManager);
+		this.transacaoSeparada.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.tempoMaximoBloqueio = tempoMaximoBloqueio.toMillis();
+		this.mesesAntecipados = mesesAntecipados;
+	}
+
+	@Override
+	public void garantirParticao(Integer ano, Integer mes) {
+		if(ano == null || mes == null || mes < 1 || mes > 12) {
+			return;
+		}
+		YearMonth competencia = YearMonth.of(ano, mes);
+		if(verificadas.contains(competencia) || !particionada()) {
+			return;
+		}
+		criar(competencia);
+	}
+
+	@Override
+	@Scheduled(cron = "${minhasfinancas.particao.manutencao.cron:0 30 2 * * *}")
+	public int manter() {
+		if(!particionada()) {
+			return 0;
+		}
+		int criadas = 0;
+		YearMonth atual = YearMonth.now();
+		for(int i = 0; i <= mesesAntecipados; i++) {
+			criadas += criar(atual.plusMonths(i)) ? 1 : 0;
+		}
+		List<Map<String, Object>> pendentes = jdbcTemplate.queryForList(
+				"SELECT DISTINCT ano, mes FROM financas.lancamento_padrao WHERE mes BETWEEN 1 AND 12");
+		for(Map<String, Object> pendente : pendentes) {
+			YearMonth competencia = YearMonth.of((Integer) pendente.get("ano"), (Integer) pendente.get("mes"));
+			criadas += criar(competencia) ? 1 : 0;
+		}
+		if(criadas > 0) {
+			log.info("Manutenção de partições de lançamento criou {} partição(ões)", criadas);
+		}
+		return criadas;
+	}
+
+	private boolean criar(YearMonth competencia) {
+		try {
+			Boolean criada = transacaoSeparada.execute(status -> {
+				jdbcTemplate.execute("SET LOCAL lock_timeout = " + tempoMaximoBloqueio);
+				return jdbcTemplate.queryForObject("SELECT financas.criar_particao_lancamento(?, ?)", Boolean.class,
+						competencia.getYear(), competencia.getMonthValue());
+			});
+			// só marca o mês depois de confirmar a partição; uma falha é tentada de novo no próximo salvamento
+			verificadas.add(competencia);
+			return Boolean.TRUE.equals(criada);
+		}catch(DataAccessException e) {
+			log.warn("Partição de lançamentos de {} não pôde ser criada agora, as linhas ficam na partição padrão até a próxima tentativa: {}",
+					competencia, e.getMessage());
+			return false;
+		}
+	}
+
+	private boolean particionada() {
+		if(particionada == null) {
+			String banco = jdbcTemplate.execute((ConnectionCallback<String>) conexao -> conexao.getMetaData().getDatabaseProductName());
+			particionada = "PostgreSQL".equals(banco)
+					&& Boolean.TRUE.equals(jdbcTemplate.queryForObject(TABELA_PARTICIONADA, Boolean.class));
+		}
+		return particionada;
+	}
+}
@@ -0,0 +1,63 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Instâncias de {@link Mac} reaproveitadas entre requisições. Um
+ * {@code ThreadLocal} não serve com threads virtuais, que nunca são reusadas:
+ * cada requisição pagaria a criação e a inicialização de um Mac novo. Aqui os
+ * Macs são clonados de um protótipo já inicializado e voltam para uma fila de
+ * tamanho fixo; o que não cabe na fila é descartado.
+ */
+final class PoolMac {
+
+	private final String algoritmo;
+	private final SecretKeySpec chave;
+	private final Mac prototipo;
+	private final BlockingQueue<Mac> macs;
+
+	PoolMac(String algoritmo, SecretKeySpec chave, int tamanho) {
+		this.algoritmo = algoritmo;
+		this.chave = chave;
+		this.prototipo = criar();
+		this.macs = new ArrayBlockingQueue<>(tamanho);
+	}
+
+	<T> T usar(Function<Mac, T> uso) {
+		Mac mac = obter();
+		try {
+			return uso.apply(mac);
+		}finally {
+			mac.reset();
+			macs.offer(mac);
+		}
+	}
+
+	private Mac obter() {
+		Mac mac = macs.poll();
+		if(mac != null) {
+			return mac;
+		}
+		try {
+			return (Mac) prototipo.clone();
+		}catch(CloneNotSupportedException e) {
+			return criar();
+		}
+	}
+
+	private Mac criar() {
+		try {
+			Mac mac = Mac.getInstance(algoritmo);
+			mac.init(chave);
+			return mac;
+		}catch(GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
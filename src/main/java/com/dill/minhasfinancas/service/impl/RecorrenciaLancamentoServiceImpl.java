@@ -0,0 +1,160 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.RecorrenciaLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.LancamentoRepository;
+import com.dill.minhasfinancas.model.repository.RecorrenciaLancamentoRepository;
+import com.dill.minhasfinancas.model.repository.TotalPorUsuarioETipo;
+import com.dill.minhasfinancas.service.ParticaoLancamentoService;
+import com.dill.minhasfinancas.service.RecorrenciaLancamentoService;
+import com.dill.minhasfinancas.service.SaldoService;
+
+@Service
+public class RecorrenciaLancamentoServiceImpl implements RecorrenciaLancamentoService {
+
+	private static final int INTERVALO_MAXIMO = 120;
+
+	private RecorrenciaLancamentoRepository repository;
+	private LancamentoRepository lancamentoRepository;
+	private SaldoService saldoService;
+	private ParticaoLancamentoService particaoService;
+	private TransactionTemplate transactionTemplate;
+	private int tamanhoLote;
+	private int mesesAntecipados;
+
+	public RecorrenciaLancamentoServiceImpl(RecorrenciaLancamentoRepository repository,
+			LancamentoRepository lancamentoRepository, SaldoService saldoService,
+			ParticaoLancamentoService particaoService, TransactionTemplate transactionTemplate,
+			@Value("${minhasfinancas.recorrencia.lote:500}") int tamanhoLote,
+			@Value("${minhasfinancas.recorrencia.meses-antecipados:1}") int mesesAntecipados) {
+		this.repository = repository;
+		this.lancamentoRepository = lancamentoRepository;
+		this.saldoService = saldoService;
+		this.particaoService = particaoService;
+		this.transactionTemplate = transactionTemplate;
+		this.tamanhoLote = tamanhoLote;
+		this.mesesAntecipados = mesesAntecipados;
+	}
+
+	@Override
+	@Transactional
+	public RecorrenciaLancamento criar(Lancamento lancamento, Integer intervaloMeses, LocalDate dataFim) {
+		Objects.requireNonNull(lancamento.getId());
+		if(lancamento.getIdRecorrencia() != null) {
+			throw new RegraNegocioException("O lançamento já possui uma recorrência");
+		}
+		if(intervaloMeses == null || intervaloMeses < 1 || intervaloMeses > INTERVALO_MAXIMO) {
+			throw new RegraNegocioException("Informe um intervalo entre 1 e " + INTERVALO_MAXIMO + " meses");
+		}
+		YearMonth inicio = YearMonth.of(lancamento.getAno(), lancamento.getMes());
+		validarDataFim(inicio, dataFim);
+
+		RecorrenciaLancamento recorrencia = repository.save(RecorrenciaLancamento.builder()
+				.usuario(lancamento.getUsuario())
+				.descricao(lancamento.getDescricao())
+				.valor(lancamento.getValor())
+				.tipo(lancamento.getTipo())
+				.anoInicio(inicio.getYear())
+				.mesInicio(inicio.getMonthValue())
+				.intervaloMeses(intervaloMeses)
+				.ultimaCompetencia(inicio.getYear() * 12 + inicio.getMonthValue())
+				.dataFim(dataFim)
+				.dataCadastro(LocalDate.now())
+				.build());
+		lancamentoRepository.vincularRecorrencia(lancamento.getId(), recorrencia.getId());
+		lancamento.setIdRecorrencia(recorrencia.getId());
+
+		YearMonth atual = YearMonth.now();
+		gerarLote(List.of(recorrencia.getId()), atual, atual.plusMonths(mesesAntecipados));
+		return recorrencia;
+	}
+
+	@Override
+	@Transactional
+	public RecorrenciaLancamento encerrar(RecorrenciaLancamento recorrencia, LocalDate dataFim) {
+		if(dataFim == null) {
+			throw new RegraNegocioException("Informe a data de encerramento da recorrência");
+		}
+		validarDataFim(YearMonth.of(recorrencia.getAnoInicio(), recorrencia.getMesInicio()), dataFim);
+		recorrencia.setDataFim(dataFim);
+		return repository.save(recorrencia);
+	}
+
+	@Override
+	public Optional<RecorrenciaLancamento> obterPorId(Long id) {
+		return repository.findById(id);
+	}
+
+	@Override
+	@Scheduled(cron = "${minhasfinancas.recorrencia.geracao.cron:-}")
+	public int gerar() {
+		YearMonth atual = YearMonth.now();
+		return gerar(atual, atual.plusMonths(mesesAntecipados));
+	}
+
+	@Override
+	public int gerar(YearMonth de, YearMonth ate) {
+		int gerados = 0;
+		Long ultimoId = 0L;
+		List<Long> ids;
+		do {
+			ids = repository.buscarIdsAtivos(ultimoId, de.atDay(1), Limit.of(tamanhoLote));
+			if(ids.isEmpty()) {
+				break;
+			}
+			List<Long> lote = ids;
+			gerados += transactionTemplate.execute(status -> gerarLote(lote, de, ate));
+			ultimoId = ids.get(ids.size() - 1);
+		}while(ids.size() == tamanhoLote);
+		return gerados;
+	}
+
+	private int gerarLote(List<Long> ids, YearMonth de, YearMonth ate) {
+		List<Long> bloqueadas = repository.bloquear(ids).stream().map(RecorrenciaLancamento::getId).toList();
+		if(bloqueadas.isEmpty()) {
+			return 0;
+		}
+		Map<Long, Dinheiro[]> totais = new HashMap<>();
+		int gerados = 0;
+		for(YearMonth competencia = de; !competencia.isAfter(ate); competencia = competencia.plusMonths(1)) {
+			particaoService.garantirParticao(competencia.getYear(), competencia.getMonthValue());
+			Integer ano = competencia.getYear();
+			Integer mes = competencia.getMonthValue();
+			Integer indice = ano * 12 + mes;
+			LocalDate inicio = competencia.atDay(1);
+			for(TotalPorUsuarioETipo total : repository.totalizarOcorrenciasPendentes(bloqueadas, ano, mes, indice, inicio)) {
+				Dinheiro[] valores = totais.computeIfAbsent(total.getIdUsuario(), id -> new Dinheiro[] {Dinheiro.ZERO, Dinheiro.ZERO});
+				int posicao = total.getTipo() == TipoLancamento.RECEITA ? 0 : 1;
+				valores[posicao] = valores[posicao].somar(Dinheiro.de(total.getTotal()));
+			}
+			gerados += repository.gerarOcorrenciasPendentes(bloqueadas, ano, mes, indice, inicio);
+			repository.avancarCompetencia(bloqueadas, indice, inicio);
+		}
+		totais.forEach((idUsuario, valores) -> saldoService.acumular(idUsuario, valores[0], valores[1]));
+		return gerados;
+	}
+
+	private void validarDataFim(YearMonth inicio, LocalDate dataFim) {
+		if(dataFim != null && dataFim.isBefore(inicio.atDay(1))) {
+			throw new RegraNegocioException("A data final da recorrência deve ser posterior ao seu início");
+		}
+	}
+}
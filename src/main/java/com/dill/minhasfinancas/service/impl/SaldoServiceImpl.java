@@ -0,0 +1,192 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.SaldoUsuario;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.LancamentoRepository;
+import com.dill.minhasfinancas.model.repository.ResumoLancamento;
+import com.dill.minhasfinancas.model.repository.SaldoUsuarioRepository;
+import com.dill.minhasfinancas.model.repository.TotalPorUsuarioETipo;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+import com.dill.minhasfinancas.service.SaldoService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class SaldoServiceImpl implements SaldoService {
+
+	private static final int TAMANHO_LOTE_RECONCILIACAO = 500;
+
+	private SaldoUsuarioRepository repository;
+	private LancamentoRepository lancamentoRepository;
+	private UsuarioRepository usuarioRepository;
+	private TransactionTemplate transactionTemplate;
+	private JdbcTemplate jdbcTemplate;
+	private volatile Boolean postgres;
+
+	public SaldoServiceImpl(SaldoUsuarioRepository repository, LancamentoRepository lancamentoRepository,
+			UsuarioRepository usuarioRepository, TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate) {
+		this.repository = repository;
+		this.lancamentoRepository = lancamentoRepository;
+		this.usuarioRepository = usuarioRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	@Transactional
+	public void registrar(Lancamento lancamento) {
+		movimentar(lancamento, lancamento.getValor());
+	}
+
+	@Override
+	@Transactional
+	public void estornar(Lancamento lancamento) {
+		movimentar(lancamento, lancamento.getValor().negar());
+	}
+
+	private void movimentar(Lancamento lancamento, Dinheiro valor) {
+		Objects.requireNonNull(lancamento.getUsuario());
+		if(lancamento.getTipo() == TipoLancamento.RECEITA) {
+			acumular(lancamento.getUsuario().getId(), valor, Dinheiro.ZERO);
+		}else {
+			acumular(lancamento.getUsuario().getId(), Dinheiro.ZERO, valor);
+		}
+	}
+
+	@Override
+	@Transactional
+	public void acumular(Long idUsuario, Dinheiro receitas, Dinheiro despesas) {
+		if(postgres()) {
+			repository.acumularOuCriar(idUsuario, receitas.paraBigDecimal(), despesas.paraBigDecimal());
+		}else if(repository.acumular(idUsuario, receitas.paraBigDecimal(), despesas.paraBigDecimal()) == 0) {
+			repository.save(SaldoUsuario.builder()
+					.idUsuario(idUsuario)
+					.receitas(receitas)
+					.despesas(despesas)
+					.versao(SaldoUsuario.VERSAO_INICIAL)
+					.build());
+		}
+	}
+
+	private boolean postgres() {
+		if(postgres == null) {
+			String banco = jdbcTemplate.execute((ConnectionCallback<String>) conexao -> conexao.getMetaData().getDatabaseProductName());
+			postgres = "PostgreSQL".equals(banco);
+		}
+		return postgres;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BigDecimal obterSaldo(Long idUsuario) {
+		return repository.findById(idUsuario)
+				.map(SaldoUsuario::getSaldo)
+				.orElseGet(() -> calcularSaldo(idUsuario))
+				.paraBigDecimal();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long obterVersao(Long idUsuario) {
+		return repository.obterVersao(idUsuario).orElse(0L);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public long bloquearVersao(Long idUsuario) {
+		return repository.bloquearVersao(idUsuario).orElse(0L);
+	}
+
+	@Override
+	@Transactional
+	public void incrementarVersao(Long idUsuario) {
+		acumular(idUsuario, Dinheiro.ZERO, Dinheiro.ZERO);
+	}
+
+	private Dinheiro calcularSaldo(Long idUsuario) {
+		Dinheiro saldo = Dinheiro.ZERO;
+		for(ResumoLancamento resumo : lancamentoRepository.obterResumoPorUsuario(idUsuario)) {
+			if(resumo.getTipo() == TipoLancamento.RECEITA) {
+				saldo = saldo.somar(Dinheiro.de(resumo.getTotal()));
+			}else {
+				saldo = saldo.subtrair(Dinheiro.de(resumo.getTotal()));
+			}
+		}
+		return saldo;
+	}
+
+	@Override
+	@Scheduled(cron = "${minhasfinancas.saldo.reconciliacao.cron:-}")
+	public int reconciliar() {
+		int corrigidos = 0;
+		Long ultimoId = 0L;
+		List<Long> idsUsuario = usuarioRepository.buscarIdsAPartirDe(ultimoId, Limit.of(TAMANHO_LOTE_RECONCILIACAO));
+		while(!idsUsuario.isEmpty()) {
+			List<Long> lote = idsUsuario;
+			corrigidos += transactionTemplate.execute(status -> reconciliarLote(lote));
+			ultimoId = lote.get(lote.size() - 1);
+			idsUsuario = usuarioRepository.buscarIdsAPartirDe(ultimoId, Limit.of(TAMANHO_LOTE_RECONCILIACAO));
+		}
+		if(corrigidos > 0) {
+			log.warn("Reconciliação de saldos corrigiu {} usuário(s)", corrigidos);
+		}
+		return corrigidos;
+	}
+
+	private int reconciliarLote(List<Long> idsUsuario) {
+		Map<Long, SaldoUsuario> saldos = repository.findByIdUsuarioIn(idsUsuario).stream()
+				.collect(Collectors.toMap(SaldoUsuario::getIdUsuario, Function.identity()));
+
+		Map<Long, SaldoUsuario> esperados = new HashMap<>();
+		for(Long idUsuario : idsUsuario) {
+			esperados.put(idUsuario, new SaldoUsuario(idUsuario, Dinheiro.ZERO, Dinheiro.ZERO));
+		}
+		for(TotalPorUsuarioETipo total : lancamentoRepository.obterTotaisPorUsuarioETipo(idsUsuario)) {
+			SaldoUsuario esperado = esperados.get(total.getIdUsuario());
+			if(total.getTipo() == TipoLancamento.RECEITA) {
+				esperado.setReceitas(Dinheiro.de(total.getTotal()));
+			}else {
+				esperado.setDespesas(Dinheiro.de(total.getTotal()));
+			}
+		}
+
+		int corrigidos = 0;
+		for(SaldoUsuario esperado : esperados.values()) {
+			SaldoUsuario atual = saldos.get(esperado.getIdUsuario());
+			if(atual == null) {
+				if(esperado.getReceitas().signum() != 0 || esperado.getDespesas().signum() != 0) {
+					repository.save(esperado);
+					corrigidos++;
+				}
+			}else if(!atual.getReceitas().equals(esperado.getReceitas())
+					|| !atual.getDespesas().equals(esperado.getDespesas())) {
+				atual.setReceitas(esperado.getReceitas());
+				atual.setDespesas(esperado.getDespesas());
+				atual.setVersao(atual.getVersao() + 1);
+				corrigidos++;
+			}
+		}
+		return corrigidos;
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.dill.minhasfinancas.exceptions.ServicoSobrecarregadoException;
+import com.dill.minhasfinancas.service.SenhaService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Service
+public class SenhaServiceImpl implements SenhaService, DisposableBean {
+
+	private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+	private static final String ALGORITMO_HMAC = "HmacSHA256";
+	private static final int TAMANHO_POOL_MAC = 64;
+
+	private final BCryptPasswordEncoder encoder;
+	private final ThreadPoolExecutor executor;
+	private final Cache<String, byte[]> verificadas;
+	private final PoolMac macs;
+
+	public SenhaServiceImpl(@Value("${minhasfinancas.senha.custo:10}") int custo,
+			@Value("${minhasfinancas.senha.cache.tamanho:10000}") long tamanhoCache,
+			@Value("${minhasfinancas.senha.cache.expiracao:5m}") Duration expiracaoCache,
+			@Value("${minhasfinancas.senha.executor.threads:0}") int threads,
+			@Value("${minhasfinancas.senha.executor.fila:100}") int tamanhoFila) {
+		this.encoder = new BCryptPasswordEncoder(custo);
+		this.verificadas = Caffeine.newBuilder()
+				.maximumSize(tamanhoCache)
+				.expireAfterWrite(expiracaoCache)
+				.build();
+
+		int totalThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger contador = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(totalThreads, totalThreads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(tamanhoFila),
+				tarefa -> {
+					Thread thread = new Thread(tarefa, "hash-senha-" + contador.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+
+		byte[] segredo = new byte[32];
+		new SecureRandom().nextBytes(segredo);
+		this.macs = new PoolMac(ALGORITMO_HMAC, new SecretKeySpec(segredo, ALGORITMO_HMAC), TAMANHO_POOL_MAC);
+	}
+
+	@Override
+	public String codificar(String senha) {
+		return executar(() -> encoder.encode(senha));
+	}
+
+	@Override
+	public boolean verificar(String senha, String senhaArmazenada) {
+		if(senha == null || senhaArmazenada == null) {
+			return false;
+		}
+		if(!isBcrypt(senhaArmazenada)) {
+			return MessageDigest.isEqual(senha.getBytes(StandardCharsets.UTF_8),
+					senhaArmazenada.getBytes(StandardCharsets.UTF_8));
+		}
+
+		byte[] digest = digest(senhaArmazenada, senha);
+		byte[] verificada = verificadas.getIfPresent(senhaArmazenada);
+		if(verificada != null && MessageDigest.isEqual(verificada, digest)) {
+			return true;
+		}
+		boolean valida = executar(() -> encoder.matches(senha, senhaArmazenada));
+		if(valida) {
+			verificadas.put(senhaArmazenada, digest);
+		}
+		return valida;
+	}
+
+	@Override
+	public boolean precisaMigrar(String senhaArmazenada) {
+		if(senhaArmazenada == null) {
+			return false;
+		}
+		return !isBcrypt(senhaArmazenada) || encoder.upgradeEncoding(senhaArmazenada);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private boolean isBcrypt(String senhaArmazenada) {
+		return BCRYPT.matcher(senhaArmazenada).matches();
+	}
+
+	private byte[] digest(String senhaArmazenada, String senha) {
+		return macs.usar(mac -> {
+			mac.update(senhaArmazenada.getBytes(StandardCharsets.UTF_8));
+			mac.update((byte) 0);
+			return mac.doFinal(senha.getBytes(StandardCharsets.UTF_8));
+		});
+	}
+
+	private <T> T executar(Callable<T> tarefa) {
+		try {
+			return executor.submit(tarefa).get();
+		}catch(RejectedExecutionException e) {
+			throw new ServicoSobrecarregadoException("Serviço de autenticação sobrecarregado, tente novamente em instantes");
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServicoSobrecarregadoException("Verificação de senha interrompida");
+		}catch(ExecutionException e) {
+			if(e.getCause() instanceof RuntimeException causa) {
+				throw causa;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,261 @@
+package com.dill.minhasfinancas.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.dill.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.service.TokenService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class TokenServiceImpl implements TokenService {
+
+	private static final String ALGORITMO = "HmacSHA256";
+	private static final int TAMANHO_ASSINATURA = 32;
+	private static final int TAMANHO_MAXIMO_TOKEN = 4096;
+	private static final int TAMANHO_POOL_MAC = 64;
+	private static final String CABECALHO = codificar("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+	private static final String PREFIXO_ASSINATURA = "assinatura:";
+	private static final byte[] SUB = "\"sub\":\"".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] EXP = "\"exp\":".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] NOME = "\"nome\":".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] EMAIL = "\"email\":".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] BASE64_URL = new byte[128];
+
+	static {
+		Arrays.fill(BASE64_URL, (byte) -1);
+		String alfabeto = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+		for(int i = 0; i < alfabeto.length(); i++) {
+			BASE64_URL[alfabeto.charAt(i)] = (byte) i;
+		}
+	}
+
+	private final Duration validade;
+	private final Clock relogio;
+	private final PoolMac macs;
+
+	@Autowired
+	public TokenServiceImpl(@Value("${minhasfinancas.token.segredo:}") String segredo,
+			@Value("${minhasfinancas.token.validade:8h}") Duration validade) {
+		this(segredo, validade, Clock.systemUTC());
+	}
+
+	public TokenServiceImpl(String segredo, Duration validade, Clock relogio) {
+		byte[] bytesSegredo;
+		if(segredo == null || segredo.isBlank()) {
+			log.warn("minhasfinancas.token.segredo não configurado, os tokens emitidos deixam de valer ao reiniciar a aplicação");
+			bytesSegredo = new byte[TAMANHO_ASSINATURA];
+			new SecureRandom().nextBytes(bytesSegredo);
+		}else {
+			bytesSegredo = Base64.getDecoder().decode(segredo);
+			if(bytesSegredo.length < TAMANHO_ASSINATURA) {
+				throw new IllegalStateException("minhasfinancas.token.segredo deve ter ao menos 256 bits");
+			}
+		}
+		this.macs = new PoolMac(ALGORITMO, new SecretKeySpec(bytesSegredo, ALGORITMO), TAMANHO_POOL_MAC);
+		this.validade = validade;
+		this.relogio = relogio;
+	}
+
+	@Override
+	public String gerar(Usuario usuario) {
+		long agora = relogio.instant().getEpochSecond();
+		StringBuilder json = new StringBuilder(160)
+				.append("{\"sub\":\"").append(usuario.getId()).append("\",\"nome\":");
+		escreverTexto(json, usuario.getNome());
+		json.append(",\"email\":");
+		escreverTexto(json, usuario.getEmail());
+		json.append(",\"iat\":").append(agora)
+			.append(",\"exp\":").append(agora + validade.toSeconds())
+			.append('}');
+
+		String conteudo = CABECALHO + "." + codificar(json.toString().getBytes(StandardCharsets.UTF_8));
+		byte[] assinatura = macs.usar(mac -> mac.doFinal(conteudo.getBytes(StandardCharsets.US_ASCII)));
+		return conteudo + "." + codificar(assinatura);
+	}
+
+	@Override
+	public Optional<UsuarioAutenticadoDTO> validar(String token) {
+		if(token == null || token.length() > TAMANHO_MAXIMO_TOKEN
+				|| !token.startsWith(CABECALHO) || token.indexOf('.') != CABECALHO.length()) {
+			return Optional.empty();
+		}
+		int inicioPayload = CABECALHO.length() + 1;
+		int inicioAssinatura = token.indexOf('.', inicioPayload);
+		if(inicioAssinatura < 0) {
+			return Optional.empty();
+		}
+
+		byte[] assinado = new byte[inicioAssinatura];
+		for(int i = 0; i < inicioAssinatura; i++) {
+			char c = token.charAt(i);
+			if(c > 0x7f) {
+				return Optional.empty();
+			}
+			assinado[i] = (byte) c;
+		}
+		byte[] calculada = macs.usar(mac -> mac.doFinal(assinado));
+		byte[] recebida = new byte[TAMANHO_ASSINATURA];
+		if(decodificar(token, inicioAssinatura + 1, token.length(), recebida) != TAMANHO_ASSINATURA
+				|| !MessageDigest.isEqual(calculada, recebida)) {
+			return Optional.empty();
+		}
+
+		byte[] payload = new byte[(inicioAssinatura - inicioPayload) * 3 / 4];
+		int tamanho = decodificar(token, inicioPayload, inicioAssinatura, payload);
+		long expiracao = lerNumero(payload, tamanho, EXP);
+		long id = lerNumero(payload, tamanho, SUB);
+		if(id < 0 || expiracao <= relogio.instant().getEpochSecond()) {
+			return Optional.empty();
+		}
+		return Optional.of(UsuarioAutenticadoDTO.builder()
+				.id(id)
+				.nome(lerTexto(payload, tamanho, NOME))
+				.email(lerTexto(payload, tamanho, EMAIL))
+				.build());
+	}
+
+	@Override
+	public String assinar(String conteudo) {
+		return conteudo + "." + codificar(calcularAssinatura(conteudo));
+	}
+
+	@Override
+	public Optional<String> verificarAssinatura(String assinado) {
+		int separador = assinado == null ? -1 : assinado.lastIndexOf('.');
+		if(separador < 0) {
+			return Optional.empty();
+		}
+		String conteudo = assinado.substring(0, separador);
+		byte[] recebida = new byte[TAMANHO_ASSINATURA];
+		if(decodificar(assinado, separador + 1, assinado.length(), recebida) != TAMANHO_ASSINATURA
+				|| !MessageDigest.isEqual(calcularAssinatura(conteudo), recebida)) {
+			return Optional.empty();
+		}
+		return Optional.of(conteudo);
+	}
+
+	private byte[] calcularAssinatura(String conteudo) {
+		return macs.usar(mac -> mac.doFinal((PREFIXO_ASSINATURA + conteudo).getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static String codificar(byte[] dados) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(dados);
+	}
+
+	private static int decodificar(String texto, int inicio, int fim, byte[] destino) {
+		int tamanho = 0;
+		int acumulado = 0;
+		int bits = 0;
+		for(int i = inicio; i < fim; i++) {
+			char c = texto.charAt(i);
+			if(c >= BASE64_URL.length || BASE64_URL[c] < 0) {
+				return -1;
+			}
+			acumulado = (acumulado << 6) | BASE64_URL[c];
+			bits += 6;
+			if(bits >= 8) {
+				bits -= 8;
+				if(tamanho == destino.length) {
+					return -1;
+				}
+				destino[tamanho++] = (byte) (acumulado >> bits);
+				acumulado &= (1 << bits) - 1;
+			}
+		}
+		return acumulado == 0 ? tamanho : -1;
+	}
+
+	private static int posicao(byte[] dados, int tamanho, byte[] chave) {
+		for(int i = 0; i <= tamanho - chave.length; i++) {
+			int j = 0;
+			while(j < chave.length && dados[i + j] == chave[j]) {
+				j++;
+			}
+			if(j == chave.length) {
+				return i + j;
+			}
+		}
+		return -1;
+	}
+
+	private static long lerNumero(byte[] dados, int tamanho, byte[] chave) {
+		int i = posicao(dados, tamanho, chave);
+		if(i < 0 || i >= tamanho || dados[i] < '0' || dados[i] > '9') {
+			return -1;
+		}
+		long numero = 0;
+		while(i < tamanho && dados[i] >= '0' && dados[i] <= '9') {
+			numero = numero * 10 + (dados[i++] - '0');
+		}
+		return numero;
+	}
+
+	private static String lerTexto(byte[] dados, int tamanho, byte[] chave) {
+		int inicio = posicao(dados, tamanho, chave);
+		if(inicio < 0 || inicio >= tamanho || dados[inicio] != '"') {
+			return null;
+		}
+		inicio++;
+		int fim = inicio;
+		boolean escapado = false;
+		while(fim < tamanho && (escapado || dados[fim] != '"')) {
+			escapado = !escapado && dados[fim] == '\\';
+			fim++;
+		}
+		String texto = new String(dados, inicio, fim - inicio, StandardCharsets.UTF_8);
+		if(texto.indexOf('\\') < 0) {
+			return texto;
+		}
+		StringBuilder resultado = new StringBuilder(texto.length());
+		for(int i = 0; i < texto.length(); i++) {
+			char c = texto.charAt(i);
+			if(c == '\\' && i + 1 < texto.length()) {
+				char proximo = texto.charAt(++i);
+				if(proximo == 'u' && i + 4 < texto.length()) {
+					resultado.append((char) Integer.parseInt(texto.substring(i + 1, i + 5), 16));
+					i += 4;
+				}else {
+					resultado.append(proximo);
+				}
+			}else {
+				resultado.append(c);
+			}
+		}
+		return resultado.toString();
+	}
+
+	private static void escreverTexto(StringBuilder json, String valor) {
+		if(valor == null) {
+			json.append("null");
+			return;
+		}
+		json.append('"');
+		for(int i = 0; i < valor.length(); i++) {
+			char c = valor.charAt(i);
+			if(c == '"' || c == '\\') {
+				json.append('\\').append(c);
+			}else if(c < 0x20) {
+				json.append(String.format("\\u%04x", (int) c));
+			}else {
+				json.append(c);
+			}
+		}
+		json.append('"');
+	}
+}
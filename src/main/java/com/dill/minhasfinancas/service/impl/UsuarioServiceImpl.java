@@ -7,18 +7,25 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.dill.minhasfinancas.exceptions.ErroAutenticacao;
 import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.exceptions.ServicoSobrecarregadoException;
 import com.dill.minhasfinancas.model.entity.Usuario;
 import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+import com.dill.minhasfinancas.service.SenhaService;
 import com.dill.minhasfinancas.service.UsuarioService;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Service
 public class UsuarioServiceImpl implements UsuarioService{
 
 	private UsuarioRepository repository;	
+	private SenhaService senhaService;
 	
-	public UsuarioServiceImpl(UsuarioRepository repository) {
+	public UsuarioServiceImpl(UsuarioRepository repository, SenhaService senhaService) {
 		super();
 		this.repository = repository;
+		this.senhaService = senhaService;
 	}
 
 	@Override
@@ -28,9 +35,12 @@ public class UsuarioServiceImpl implements UsuarioService{
 			throw new ErroAutenticacao("Usuário não encontrado para o email informado");
 		}
 		
-		if(!usuario.get().getSenha().equals(senha)) {
+		if(!senhaService.verificar(senha, usuario.get().getSenha())) {
 			throw new ErroAutenticacao("Senha inválida");
 		}
+		if(senhaService.precisaMigrar(usuario.get().getSenha())) {
+			migrarSenha(usuario.get(), senha);
+		}
 		return usuario.get();
 	}
 
@@ -38,6 +48,9 @@ public class UsuarioServiceImpl implements UsuarioService{
 	@Transactional
 	public Usuario salvarUsuario(Usuario usuario) {
 		validarEmail(usuario.getEmail());
+		if(usuario.getSenha() != null) {
+			usuario.setSenha(senhaService.codificar(usuario.getSenha()));
+		}
 		return repository.save(usuario);
 	}
 
@@ -54,5 +67,14 @@ public class UsuarioServiceImpl implements UsuarioService{
 	public Optional<Usuario> obterPorId(Long id) {
 		return repository.findById(id);
 	}
+	
+	private void migrarSenha(Usuario usuario, String senha) {
+		try {
+			usuario.setSenha(senhaService.codificar(senha));
+			repository.save(usuario);
+		}catch(ServicoSobrecarregadoException e) {
+			log.warn("Migração da senha do usuário {} adiada: {}", usuario.getId(), e.getMessage());
+		}
+	}
 
 }
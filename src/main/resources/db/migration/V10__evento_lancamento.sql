@@ -0,0 +1,22 @@
+CREATE SEQUENCE financas.evento_lancamento_id_seq INCREMENT BY 50;
+
+CREATE TABLE financas.evento_lancamento (
+	id bigint NOT NULL PRIMARY KEY DEFAULT nextval('financas.evento_lancamento_id_seq'),
+	tipo character varying(20) NOT NULL CHECK (tipo IN ('CRIADO', 'ATUALIZADO', 'STATUS_ALTERADO', 'REMOVIDO')),
+	id_lancamento bigint NOT NULL,
+	id_usuario bigint NOT NULL,
+	ano integer,
+	mes integer,
+	valor numeric(38,2),
+	tipo_lancamento character varying(20),
+	status character varying(20),
+	data_criacao timestamp NOT NULL,
+	data_processamento timestamp,
+	tentativas integer NOT NULL DEFAULT 0
+);
+
+ALTER SEQUENCE financas.evento_lancamento_id_seq OWNED BY financas.evento_lancamento.id;
+
+CREATE INDEX idx_evento_lancamento_pendente
+	ON financas.evento_lancamento (id)
+	WHERE data_processamento IS NULL;
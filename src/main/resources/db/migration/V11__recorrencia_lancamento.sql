@@ -0,0 +1,22 @@
+CREATE SEQUENCE financas.recorrencia_lancamento_id_seq INCREMENT BY 50;
+
+CREATE TABLE financas.recorrencia_lancamento (
+	id bigint NOT NULL PRIMARY KEY DEFAULT nextval('financas.recorrencia_lancamento_id_seq'),
+	id_usuario bigint NOT NULL REFERENCES financas.usuario (id),
+	descricao character varying(255) NOT NULL,
+	valor numeric(38,2) NOT NULL,
+	tipo character varying(20) NOT NULL CHECK (tipo IN ('RECEITA', 'DESPESA')),
+	ano_inicio integer NOT NULL,
+	mes_inicio integer NOT NULL CHECK (mes_inicio BETWEEN 1 AND 12),
+	intervalo_meses integer NOT NULL CHECK (intervalo_meses > 0),
+	data_fim date,
+	data_cadastro date DEFAULT now()
+);
+
+ALTER SEQUENCE financas.recorrencia_lancamento_id_seq OWNED BY financas.recorrencia_lancamento.id;
+
+ALTER TABLE financas.lancamento
+	ADD COLUMN id_recorrencia bigint REFERENCES financas.recorrencia_lancamento (id);
+
+CREATE UNIQUE INDEX uk_lancamento_recorrencia_ano_mes
+	ON financas.lancamento (id_recorrencia, ano, mes);
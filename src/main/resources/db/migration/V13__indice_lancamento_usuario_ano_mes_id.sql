@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_lancamento_usuario_ano_mes_id
+	ON financas.lancamento (id_usuario, ano, mes, id);
@@ -0,0 +1,7 @@
+ALTER TABLE financas.recorrencia_lancamento ADD COLUMN ultima_competencia integer;
+
+UPDATE financas.recorrencia_lancamento r
+	SET ultima_competencia = GREATEST(r.ano_inicio * 12 + r.mes_inicio,
+		COALESCE((SELECT MAX(l.ano * 12 + l.mes) FROM financas.lancamento l WHERE l.id_recorrencia = r.id), 0));
+
+ALTER TABLE financas.recorrencia_lancamento ALTER COLUMN ultima_competencia SET NOT NULL;
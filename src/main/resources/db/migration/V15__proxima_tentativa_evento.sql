@@ -0,0 +1 @@
+ALTER TABLE financas.evento_lancamento ADD COLUMN proxima_tentativa timestamp;
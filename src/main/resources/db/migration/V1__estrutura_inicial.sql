@@ -0,0 +1,20 @@
+CREATE SCHEMA IF NOT EXISTS financas;
+
+CREATE TABLE financas.usuario (
+	id bigserial NOT NULL PRIMARY KEY,
+	nome character varying(255),
+	email character varying(255),
+	senha character varying(255)
+);
+
+CREATE TABLE financas.lancamento (
+	id bigserial NOT NULL PRIMARY KEY,
+	descricao character varying(255),
+	mes integer,
+	ano integer,
+	id_usuario bigint REFERENCES financas.usuario (id),
+	valor numeric(38,2),
+	data_cadastro date DEFAULT now(),
+	tipo character varying(20) CHECK (tipo IN ('RECEITA', 'DESPESA')),
+	status character varying(20) CHECK (status IN ('PENDENTE', 'CANCELADO', 'EFETIVADO'))
+);
@@ -0,0 +1,13 @@
+CREATE TABLE financas.saldo_usuario (
+	id_usuario bigint NOT NULL PRIMARY KEY REFERENCES financas.usuario (id),
+	receitas numeric(38,2) NOT NULL DEFAULT 0,
+	despesas numeric(38,2) NOT NULL DEFAULT 0
+);
+
+INSERT INTO financas.saldo_usuario (id_usuario, receitas, despesas)
+SELECT u.id,
+	COALESCE(SUM(CASE WHEN l.tipo = 'RECEITA' THEN l.valor END), 0),
+	COALESCE(SUM(CASE WHEN l.tipo = 'DESPESA' THEN l.valor END), 0)
+FROM financas.usuario u
+LEFT JOIN financas.lancamento l ON l.id_usuario = u.id
+GROUP BY u.id;
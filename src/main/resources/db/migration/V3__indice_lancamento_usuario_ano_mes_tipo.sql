@@ -0,0 +1,2 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_lancamento_usuario_ano_mes_tipo
+	ON financas.lancamento (id_usuario, ano, mes, tipo);
@@ -0,0 +1 @@
+ALTER SEQUENCE financas.lancamento_id_seq INCREMENT BY 50;
@@ -0,0 +1,5 @@
+ALTER TABLE financas.lancamento ADD COLUMN hash_importacao character varying(64);
+
+CREATE UNIQUE INDEX uk_lancamento_usuario_hash_importacao
+	ON financas.lancamento (id_usuario, hash_importacao)
+	WHERE hash_importacao IS NOT NULL;
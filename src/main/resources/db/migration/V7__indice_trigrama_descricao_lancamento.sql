@@ -0,0 +1,2 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_lancamento_descricao_trgm
+	ON financas.lancamento USING gin (lower(descricao) gin_trgm_ops);
@@ -0,0 +1 @@
+ALTER TABLE financas.saldo_usuario ADD COLUMN versao bigint NOT NULL DEFAULT 1;
@@ -0,0 +1,61 @@
+ALTER TABLE financas.lancamento RENAME TO lancamento_nao_particionado;
+ALTER TABLE financas.lancamento_nao_particionado DROP CONSTRAINT lancamento_pkey;
+DROP INDEX IF EXISTS financas.idx_lancamento_usuario_ano_mes_tipo;
+DROP INDEX IF EXISTS financas.uk_lancamento_usuario_hash_importacao;
+DROP INDEX IF EXISTS financas.idx_lancamento_descricao_trgm;
+ALTER SEQUENCE financas.lancamento_id_seq OWNED BY NONE;
+
+CREATE TABLE financas.lancamento (
+	id bigint NOT NULL DEFAULT nextval('financas.lancamento_id_seq'),
+	descricao character varying(255),
+	mes integer NOT NULL,
+	ano integer NOT NULL,
+	id_usuario bigint REFERENCES financas.usuario (id),
+	valor numeric(38,2),
+	data_cadastro date DEFAULT now(),
+	tipo character varying(20) CHECK (tipo IN ('RECEITA', 'DESPESA')),
+	status character varying(20) CHECK (status IN ('PENDENTE', 'CANCELADO', 'EFETIVADO')),
+	hash_importacao character varying(64),
+	PRIMARY KEY (id, ano, mes)
+) PARTITION BY RANGE (ano, mes);
+
+CREATE INDEX idx_lancamento_usuario_ano_mes_tipo
+	ON financas.lancamento (id_usuario, ano, mes, tipo);
+CREATE UNIQUE INDEX uk_lancamento_usuario_hash_importacao
+	ON financas.lancamento (id_usuario, hash_importacao, ano, mes);
+CREATE INDEX idx_lancamento_descricao_trgm
+	ON financas.lancamento USING gin (lower(descricao) gin_trgm_ops);
+
+CREATE TABLE financas.lancamento_padrao PARTITION OF financas.lancamento DEFAULT;
+
+CREATE FUNCTION financas.criar_particao_lancamento(p_ano integer, p_mes integer) RETURNS boolean AS $$
+DECLARE
+	nome text := format('lancamento_%s_%s', p_ano, lpad(p_mes::text, 2, '0'));
+BEGIN
+	IF p_mes NOT BETWEEN 1 AND 12 THEN
+		RAISE EXCEPTION 'Mês inválido para partição de lançamento: %', p_mes;
+	END IF;
+	PERFORM pg_advisory_xact_lock(hashtext('financas.lancamento'));
+	IF to_regclass(format('financas.%I', nome)) IS NOT NULL THEN
+		RETURN false;
+	END IF;
+	EXECUTE format('CREATE TABLE financas.%I (LIKE financas.lancamento INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', nome);
+	EXECUTE format('WITH movidos AS (DELETE FROM financas.lancamento_padrao WHERE ano = %s AND mes = %s RETURNING *) '
+		|| 'INSERT INTO financas.%I SELECT * FROM movidos', p_ano, p_mes, nome);
+	EXECUTE format('ALTER TABLE financas.lancamento ATTACH PARTITION financas.%I FOR VALUES FROM (%s, %s) TO (%s, %s)',
+		nome, p_ano, p_mes, p_ano, p_mes + 1);
+	RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT financas.criar_particao_lancamento(ano, mes)
+FROM (SELECT DISTINCT ano, mes FROM financas.lancamento_nao_particionado WHERE mes BETWEEN 1 AND 12) meses;
+
+INSERT INTO financas.lancamento (id, descricao, mes, ano, id_usuario, valor, data_cadastro, tipo, status, hash_importacao)
+SELECT id, descricao, mes, ano, id_usuario, valor, data_cadastro, tipo, status, hash_importacao
+FROM financas.lancamento_nao_particionado;
+
+DROP TABLE financas.lancamento_nao_particionado;
+ALTER SEQUENCE financas.lancamento_id_seq OWNED BY financas.lancamento.id;
+
+ANALYZE financas.lancamento;
@@ -1,5 +1,9 @@
 package com.dill.minhasfinancas.api.resource;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
@@ -15,11 +19,16 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import com.dill.minhasfinancas.api.dto.ConteudoVersionadoDTO;
+import com.dill.minhasfinancas.api.dto.ResumoMensalDTO;
+import com.dill.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
 import com.dill.minhasfinancas.api.dto.UsuarioDTO;
 import com.dill.minhasfinancas.exceptions.ErroAutenticacao;
 import com.dill.minhasfinancas.exceptions.RegraNegocioException;
 import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.service.AnaliseLancamentoService;
 import com.dill.minhasfinancas.service.LancamentoService;
+import com.dill.minhasfinancas.service.TokenService;
 import com.dill.minhasfinancas.service.UsuarioService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -42,6 +51,12 @@ public class UsuarioResourceTest {
 	@MockBean
 	LancamentoService lancamentoService;
 	
+	@MockBean
+	TokenService tokenService;
+	
+	@MockBean
+	AnaliseLancamentoService analiseService;
+	
 	@Test
 	public void deveAutenticarUmUsuario() throws Exception {
 		//cenario
@@ -51,6 +66,7 @@ public class UsuarioResourceTest {
 		UsuarioDTO dto = UsuarioDTO.builder().email(email).senha(senha).build();
 		Usuario usuario = Usuario.builder().id(1l).email(email).senha(senha).build();
 		Mockito.when( service.autenticar(email, senha) ).thenReturn(usuario);
+		Mockito.when( tokenService.gerar(usuario) ).thenReturn("token");
 		String json = new ObjectMapper().writeValueAsString(dto);
 		
 		//execucao e verificacao
@@ -63,6 +79,7 @@ public class UsuarioResourceTest {
 			.andExpect( MockMvcResultMatchers.jsonPath("id").value(usuario.getId())  )
 			.andExpect( MockMvcResultMatchers.jsonPath("nome").value(usuario.getNome())  )
 			.andExpect( MockMvcResultMatchers.jsonPath("email").value(usuario.getEmail())  )	
+			.andExpect( MockMvcResultMatchers.jsonPath("token").value("token")  )
 		;
 	}
 
@@ -131,10 +148,99 @@ public class UsuarioResourceTest {
 				.perform(request)
 				.andExpect( MockMvcResultMatchers.status().isBadRequest()  );
 	}
+	@Test
+	public void deveObterOResumoAnualDoUsuario() throws Exception {
+		//cenário
+		Usuario usuario = Usuario.builder().id(1l).email("usuario@email.com").build();
+		ResumoMensalDTO janeiro = ResumoMensalDTO.builder().mes(1)
+				.receitas(BigDecimal.TEN).despesas(BigDecimal.ONE).saldo(BigDecimal.valueOf(9)).build();
+		Mockito.when( service.obterPorId(1l) ).thenReturn(Optional.of(usuario));
+		Mockito.when( lancamentoService.obterResumoAnual(1l, 2024) ).thenReturn(Arrays.asList(janeiro));
+		autenticarComo(1l);
+		
+		//execucao e verificacao
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/resumo")).param("ano", "2024").accept(JSON).header("Authorization", "Bearer token"))
+			.andExpect( MockMvcResultMatchers.status().isOk() )
+			.andExpect( MockMvcResultMatchers.jsonPath("[0].mes").value(1) )
+			.andExpect( MockMvcResultMatchers.jsonPath("[0].saldo").value(9) );
+	}
 	
+	@Test
+	public void deveRetornarNotFoundAoObterResumoDeUsuarioInexistente() throws Exception {
+		Mockito.when( service.obterPorId(1l) ).thenReturn(Optional.empty());
+		autenticarComo(1l);
+		
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/resumo")).accept(JSON).header("Authorization", "Bearer token"))
+			.andExpect( MockMvcResultMatchers.status().isNotFound() );
+	}
 	
+	@Test
+	public void deveRetornarUnauthorizedSemTokenDeAcesso() throws Exception {
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).accept(JSON))
+			.andExpect( MockMvcResultMatchers.status().isUnauthorized() );
+	}
 	
+	@Test
+	public void deveRetornarForbiddenAoConsultarOSaldoDeOutroUsuario() throws Exception {
+		autenticarComo(2l);
+		
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).accept(JSON).header("Authorization", "Bearer token"))
+			.andExpect( MockMvcResultMatchers.status().isForbidden() );
+	}
+	@Test
+	public void deveRetornarOSaldoComETagDaVersaoDoUsuario() throws Exception {
+		//cenário
+		Mockito.when( service.obterPorId(1l) ).thenReturn(Optional.of(Usuario.builder().id(1l).build()));
+		Mockito.when( lancamentoService.obterVersaoPorUsuario(1l) ).thenReturn(7l);
+		Mockito.when( lancamentoService.obterSaldoComVersao(1l) ).thenReturn(new ConteudoVersionadoDTO<>(7l, BigDecimal.TEN));
+		autenticarComo(1l);
+		
+		//execucao e verificacao
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).accept(JSON).header("Authorization", "Bearer token"))
+			.andExpect( MockMvcResultMatchers.status().isOk() )
+			.andExpect( MockMvcResultMatchers.header().string("ETag", "\"1-7\"") )
+			.andExpect( MockMvcResultMatchers.content().string("10") );
+	}
 	
+	@Test
+	public void deveUsarNoETagAVersaoLidaJuntoComOSaldo() throws Exception {
+		//cenário
+		Mockito.when( service.obterPorId(1l) ).thenReturn(Optional.of(Usuario.builder().id(1l).build()));
+		Mockito.when( lancamentoService.obterVersaoPorUsuario(1l) ).thenReturn(8l);
+		Mockito.when( lancamentoService.obterSaldoComVersao(1l) ).thenReturn(new ConteudoVersionadoDTO<>(7l, BigDecimal.TEN));
+		autenticarComo(1l);
+		
+		//execucao e verificacao
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).accept(JSON).header("Authorization", "Bearer token"))
+			.andExpect( MockMvcResultMatchers.status().isOk() )
+			.andExpect( MockMvcResultMatchers.header().string("ETag", "\"1-7\"") );
+	}
+	
+	@Test
+	public void deveRetornarNotModifiedSemConsultarOSaldoQuandoAVersaoNaoMudou() throws Exception {
+		//cenário
+		Mockito.when( lancamentoService.obterVersaoPorUsuario(1l) ).thenReturn(7l);
+		autenticarComo(1l);
+		
+		//execucao e verificacao
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).accept(JSON)
+					.header("Authorization", "Bearer token").header("If-None-Match", "\"1-7\""))
+			.andExpect( MockMvcResultMatchers.status().isNotModified() )
+			.andExpect( MockMvcResultMatchers.content().string("") );
+		Mockito.verify(lancamentoService, Mockito.never()).obterSaldoComVersao(Mockito.anyLong());
+	}
+	
+	private void autenticarComo(Long id) {
+		Mockito.when( tokenService.validar("token") )
+			.thenReturn(Optional.of(UsuarioAutenticadoDTO.builder().id(id).email("usuario@email.com").build()));
+	}
 	
 	private MockHttpServletRequestBuilder postRequestAutenticar(String json, String endPoint) {
 		MockHttpServletRequestBuilder request = MockMvcRequestBuilders
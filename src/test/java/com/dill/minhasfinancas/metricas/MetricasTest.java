@@ -0,0 +1,104 @@
+package com.dill.minhasfinancas.metricas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.dill.minhasfinancas.exceptions.ErroAutenticacao;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+import com.dill.minhasfinancas.service.LancamentoService;
+import com.dill.minhasfinancas.service.TokenService;
+import com.dill.minhasfinancas.service.UsuarioService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class MetricasTest {
+	
+	@Autowired
+	MeterRegistry registry;
+	
+	@Autowired
+	UsuarioService usuarioService;
+	
+	@Autowired
+	LancamentoService lancamentoService;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Autowired
+	TokenService tokenService;
+	
+	@Autowired
+	MockMvc mvc;
+	
+	@Test
+	public void deveContarOsErrosDeAutenticacaoDoService() {
+		//execução
+		Throwable erro = catchThrowable(() -> usuarioService.autenticar("metricas@email.com", "senha"));
+		
+		//verificação
+		assertThat(erro).isInstanceOf(ErroAutenticacao.class);
+		Counter erros = registry.find(MetricasAspect.METRICA_ERROS)
+				.tags("classe", "UsuarioServiceImpl", "metodo", "autenticar", "excecao", "ErroAutenticacao")
+				.counter();
+		assertThat(erros).isNotNull();
+		assertThat(erros.count()).isGreaterThanOrEqualTo(1);
+	}
+	
+	@Test
+	public void deveMedirOsMetodosDoServiceEDoRepositoryEAsLinhasDaBusca() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("metricas").email("metricas-busca@email.com").build());
+		
+		//execução
+		lancamentoService.buscar(Lancamento.builder().usuario(usuario).build());
+		
+		//verificação
+		Timer busca = registry.find(MetricasAspect.METRICA_METODO)
+				.tags("camada", "service", "metodo", "buscar", "excecao", "none").timer();
+		assertThat(busca).isNotNull();
+		assertThat(busca.count()).isGreaterThanOrEqualTo(1);
+		
+		assertThat(registry.find(MetricasAspect.METRICA_METODO)
+				.tags("camada", "repository", "classe", "UsuarioRepository", "metodo", "save").timer()).isNotNull();
+		
+		DistributionSummary linhas = registry.find(MetricasAspect.METRICA_LINHAS)
+				.tags("classe", "LancamentoServiceImpl", "metodo", "buscar").summary();
+		assertThat(linhas).isNotNull();
+		assertThat(linhas.count()).isGreaterThanOrEqualTo(1);
+	}
+	
+	@Test
+	public void deveRegistrarAsConsultasExecutadasPorRequisicao() throws Exception {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("metricas").email("metricas-http@email.com").build());
+		
+		//execução
+		mvc.perform(MockMvcRequestBuilders.get("/api/lancamentos")
+				.header("Authorization", "Bearer " + tokenService.gerar(usuario)))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+		
+		//verificação
+		DistributionSummary consultas = registry.find(ConsultasPorRequisicaoFilter.METRICA_CONSULTAS)
+				.tags("method", "GET", "uri", "/api/lancamentos").summary();
+		assertThat(consultas).isNotNull();
+		assertThat(consultas.totalAmount()).isGreaterThan(0);
+	}
+}
@@ -0,0 +1,57 @@
+package com.dill.minhasfinancas.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+public class DinheiroTest {
+	
+	ObjectMapper mapper = new ObjectMapper();
+	
+	@Test
+	public void deveLerEEscreverOValorComDuasCasas() {
+		//execução e verificação
+		assertThat(Dinheiro.de("1234.5").getCentavos()).isEqualTo(123450);
+		assertThat(Dinheiro.de("-0.005").getCentavos()).isEqualTo(-1);
+		assertThat(Dinheiro.de("10.004").getCentavos()).isEqualTo(1000);
+		assertThat(Dinheiro.de(new BigDecimal("99.995")).getCentavos()).isEqualTo(10000);
+		assertThat(Dinheiro.deCentavos(5).toString()).isEqualTo("0.05");
+		assertThat(Dinheiro.deCentavos(-123456).toString()).isEqualTo("-1234.56");
+		assertThat(Dinheiro.deCentavos(Long.MIN_VALUE).paraBigDecimal())
+			.isEqualByComparingTo(new BigDecimal(Dinheiro.deCentavos(Long.MIN_VALUE).toString()));
+		assertThat(catchThrowable(() -> Dinheiro.de("1e3"))).isInstanceOf(NumberFormatException.class);
+	}
+	
+	@Test
+	public void deveLancarErroQuandoAOperacaoEstourar() {
+		//cenário
+		Dinheiro maximo = Dinheiro.deCentavos(Long.MAX_VALUE);
+		
+		//execução
+		Throwable erro = catchThrowable(() -> maximo.somar(Dinheiro.deCentavos(1)));
+		
+		//verificação
+		assertThat(erro).isInstanceOf(ArithmeticException.class);
+		assertThat(catchThrowable(() -> Dinheiro.deCentavos(Long.MIN_VALUE).negar())).isInstanceOf(ArithmeticException.class);
+		assertThat(catchThrowable(() -> Dinheiro.de("92233720368547758.08"))).isInstanceOf(ArithmeticException.class);
+	}
+	
+	@Test
+	public void deveConverterDeEParaJson() throws Exception {
+		//execução
+		Dinheiro[] valores = mapper.readValue("[10, 10.5, \"7.25\", -3.999, 1.5e2]", Dinheiro[].class);
+		
+		//verificação
+		assertThat(valores).extracting(Dinheiro::getCentavos).containsExactly(1000l, 1050l, 725l, -400l, 15000l);
+		assertThat(mapper.writeValueAsString(valores)).isEqualTo("[10.00,10.50,7.25,-4.00,150.00]");
+		assertThat(catchThrowable(() -> mapper.readValue("\"abc\"", Dinheiro.class))).isInstanceOf(InvalidFormatException.class);
+		assertThat(catchThrowable(() -> mapper.readValue("92233720368547759", Dinheiro.class))).isInstanceOf(InvalidFormatException.class);
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.dill.minhasfinancas.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+public class RoteamentoLeituraDataSourceTest {
+
+	HikariDataSource primario;
+	HikariDataSource replica;
+	RoteamentoLeituraDataSource roteamento;
+	JdbcTemplate jdbcTemplate;
+	TransactionTemplate escrita;
+	TransactionTemplate leitura;
+
+	@BeforeEach
+	public void setUp() {
+		primario = criarBanco("primario");
+		replica = criarBanco("replica");
+		new JdbcTemplate(replica).execute("CREATE TABLE atraso_replica (segundos INT); INSERT INTO atraso_replica VALUES (0)");
+
+		roteamento = new RoteamentoLeituraDataSource(primario, List.of(replica),
+				RoteamentoLeituraDataSource.Balanceamento.RODIZIO, Duration.ofSeconds(5), "SELECT segundos FROM atraso_replica");
+		roteamento.afterPropertiesSet();
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(roteamento);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		escrita = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		leitura = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		leitura.setReadOnly(true);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		roteamento.destroy();
+		primario.close();
+	}
+
+	@Test
+	public void deveEnviarSomenteAsTransacoesDeLeituraParaAReplica() {
+		//execução
+		String origemEscrita = escrita.execute(status -> origem());
+		String origemLeitura = leitura.execute(status -> origem());
+
+		//verificação
+		assertThat(origemEscrita).isEqualTo("primario");
+		assertThat(origemLeitura).isEqualTo("replica");
+		assertThat(origem()).isEqualTo("primario");
+	}
+
+	@Test
+	public void deveVoltarAoPrimarioQuandoAReplicaEstiverAtrasada() {
+		//cenário
+		new JdbcTemplate(replica).update("UPDATE atraso_replica SET segundos = 30");
+
+		//execução
+		roteamento.verificarReplicas();
+		String origemAtrasada = leitura.execute(status -> origem());
+		new JdbcTemplate(replica).update("UPDATE atraso_replica SET segundos = 1");
+		roteamento.verificarReplicas();
+		String origemRecuperada = leitura.execute(status -> origem());
+
+		//verificação
+		assertThat(origemAtrasada).isEqualTo("primario");
+		assertThat(origemRecuperada).isEqualTo("replica");
+	}
+
+	private String origem() {
+		return jdbcTemplate.queryForObject("SELECT nome FROM origem", String.class);
+	}
+
+	private HikariDataSource criarBanco(String nome) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl("jdbc:h2:mem:roteamento_" + nome);
+		dataSource.setPoolName(nome);
+		dataSource.setMaximumPoolSize(2);
+		new JdbcTemplate(dataSource).execute("CREATE TABLE origem (nome VARCHAR(20)); INSERT INTO origem VALUES ('" + nome + "')");
+		return dataSource;
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.dill.minhasfinancas.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+import com.dill.minhasfinancas.service.LancamentoService;
+import com.dill.minhasfinancas.service.TokenService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+		"minhasfinancas.replicas.urls=${spring.datasource.url}",
+		"minhasfinancas.replicas.consulta-atraso=SELECT 0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RoteamentoLeituraRequisicaoTest {
+
+	@SpyBean
+	RoteamentoLeituraDataSource roteamento;
+
+	@Autowired
+	MockMvc mvc;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	TokenService tokenService;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	List<String> leituras = new CopyOnWriteArrayList<>();
+	List<String> escritas = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	public void setUp() {
+		Mockito.doAnswer(invocacao -> {
+			Object chave = invocacao.callRealMethod();
+			String destino = chave == null ? "primario" : chave.toString();
+			if(TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+				leituras.add(destino);
+			}else {
+				escritas.add(destino);
+			}
+			return chave;
+		}).when(roteamento).determineCurrentLookupKey();
+	}
+
+	@Test
+	public void deveEnviarAEscritaAoPrimarioMesmoDepoisDeUmaLeituraNaMesmaRequisicao() throws Exception {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("roteamento@email.com").build());
+		Lancamento lancamento = lancamentoService.salvar(Lancamento.builder().descricao("lancamento").ano(2024).mes(1)
+				.valor(Dinheiro.de("10")).tipo(TipoLancamento.RECEITA).usuario(usuario).build());
+		entityManagerFactory.getCache().evictAll();
+		leituras.clear();
+		escritas.clear();
+
+		//execução
+		mvc.perform(MockMvcRequestBuilders.patch("/api/lancamentos/" + lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.gerar(usuario))
+				.header(HttpHeaders.IF_MATCH, "\"" + lancamento.getVersao() + "\"")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"descricao\":\"alterado\"}"))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"" + (lancamento.getVersao() + 1) + "\""))
+			.andExpect(MockMvcResultMatchers.jsonPath("descricao").value("alterado"))
+			.andExpect(MockMvcResultMatchers.jsonPath("usuario.id").value(usuario.getId()));
+
+		//verificação
+		assertThat(leituras).contains("replica-1");
+		assertThat(escritas).isNotEmpty().containsOnly("primario");
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.dill.minhasfinancas.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CacheSegundoNivelTest {
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Autowired
+	LancamentoRepository lancamentoRepository;
+	
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+	
+	Statistics estatisticas;
+	
+	@BeforeEach
+	public void setUp() {
+		estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		estatisticas.clear();
+	}
+	
+	@Test
+	public void deveBuscarOLancamentoNoCacheDeSegundoNivel() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("segundonivel@email.com").build());
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setUsuario(usuario);
+		lancamento = lancamentoRepository.save(lancamento);
+		
+		//execução
+		lancamentoRepository.findById(lancamento.getId());
+		lancamentoRepository.findById(lancamento.getId());
+		
+		//verificação
+		assertThat(estatisticas.getDomainDataRegionStatistics("lancamento").getHitCount()).isGreaterThanOrEqualTo(2);
+	}
+	
+	@Test
+	public void deveInvalidarAConsultaEmCacheQuandoUmUsuarioForSalvo() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("consultacache@email.com").build());
+		
+		//execução
+		usuarioRepository.findByEmail("consultacache@email.com");
+		usuarioRepository.findByEmail("consultacache@email.com");
+		usuario.setNome("alterado");
+		usuarioRepository.save(usuario);
+		Usuario atualizado = usuarioRepository.findByEmail("consultacache@email.com").get();
+		
+		//verificação
+		assertThat(estatisticas.getQueryRegionStatistics("usuarioPorEmail").getHitCount()).isEqualTo(1);
+		assertThat(atualizado.getNome()).isEqualTo("alterado");
+	}
+	
+	@Test
+	public void naoDeveInvalidarAConsultaDeUsuarioQuandoUmLancamentoForSalvo() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("lancamentocache@email.com").build());
+		
+		//execução
+		usuarioRepository.findByEmail("lancamentocache@email.com");
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setUsuario(usuario);
+		lancamentoRepository.save(lancamento);
+		usuarioRepository.findByEmail("lancamentocache@email.com");
+		
+		//verificação
+		assertThat(estatisticas.getQueryRegionStatistics("usuarioPorEmail").getHitCount()).isEqualTo(1);
+	}
+	
+	@Test
+	public void deveBuscarOUsuarioPorEmailNoCacheDeConsultas() {
+		usuarioRepository.save(Usuario.builder().nome("usuario").email("porEmail@email.com").build());
+		
+		usuarioRepository.findByEmail("porEmail@email.com");
+		usuarioRepository.findByEmail("porEmail@email.com");
+		
+		assertThat(estatisticas.getQueryRegionStatistics("usuarioPorEmail").getHitCount()).isEqualTo(1);
+	}
+}
@@ -2,18 +2,26 @@ package com.dill.minhasfinancas.model.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
 import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
 import com.dill.minhasfinancas.model.enums.StatusLancamento;
 import com.dill.minhasfinancas.model.enums.TipoLancamento;
 
@@ -22,6 +30,8 @@ import com.dill.minhasfinancas.model.enums.TipoLancamento;
 @AutoConfigureTestDatabase(replace = Replace.NONE)
 @ActiveProfiles("test")
 public class LancamentoRepositoryTest {
+	private static final Sort ORDEM = Sort.by("ano", "mes", "id");
+	
 	@Autowired
 	LancamentoRepository repository;
 	
@@ -74,6 +84,161 @@ public class LancamentoRepositoryTest {
 		
 	}
 
+	@Test
+	public void deveBuscarEmFluxoOsLancamentosDoUsuarioOrdenadosPorAnoEMes() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.CriarUsuario());
+		persistirLancamento(usuario, 2024, 3, "Aluguel");
+		persistirLancamento(usuario, 2023, 12, "Salario");
+		persistirLancamento(usuario, 2024, 1, "Mercado");
+		persistirLancamento(usuario, 2024, 2, "Outra coisa");
+		
+		List<Integer> meses;
+		Lancamento filtro = Lancamento.builder().usuario(usuario).ano(2024).build();
+		try(Stream<LancamentoConsultaDTO> resultado = repository.consultarEmFluxo(LancamentoSpecifications.filtro(filtro), ORDEM)) {
+			meses = resultado.map(LancamentoConsultaDTO::getMes).collect(Collectors.toList());
+		}
+		assertThat(meses).containsExactly(1, 2, 3);
+		
+		filtro = Lancamento.builder().usuario(usuario).descricao("ALU").build();
+		try(Stream<LancamentoConsultaDTO> resultado = repository.consultarEmFluxo(LancamentoSpecifications.filtro(filtro), ORDEM)) {
+			assertThat(resultado.map(LancamentoConsultaDTO::getDescricao)).containsExactly("Aluguel");
+		}
+	}
+	
+	@Test
+	public void deveConsultarAPaginaSeguinteAPartirDaUltimaPosicao() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.CriarUsuario());
+		persistirLancamento(usuario, 2024, 2, "Mercado");
+		Lancamento ultimo = persistirLancamento(usuario, 2024, 1, "Aluguel");
+		persistirLancamento(usuario, 2023, 12, "Salario");
+		persistirLancamento(usuario, 2024, 3, "Farmacia");
+		
+		Lancamento filtro = Lancamento.builder().usuario(usuario).build();
+		List<LancamentoConsultaDTO> primeiraPagina = repository.consultar(LancamentoSpecifications.filtro(filtro), ORDEM, 2);
+		List<LancamentoConsultaDTO> segundaPagina = repository.consultar(LancamentoSpecifications.filtro(filtro)
+				.and(LancamentoSpecifications.aposPosicao(ultimo.getAno(), ultimo.getMes(), ultimo.getId())), ORDEM, 2);
+		
+		assertThat(primeiraPagina).extracting(LancamentoConsultaDTO::getDescricao).containsExactly("Salario", "Aluguel");
+		assertThat(segundaPagina).extracting(LancamentoConsultaDTO::getDescricao).containsExactly("Mercado", "Farmacia");
+		assertThat(segundaPagina).allMatch(l -> usuario.getId().equals(l.getUsuario()));
+	}
+	
+	@Test
+	public void deveCarregarOUsuarioApenasQuandoBuscarPorId() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.CriarUsuario());
+		Lancamento lancamento = persistirLancamento(usuario, 2024, 1, "Aluguel");
+		entityManager.flush();
+		entityManager.clear();
+		
+		Lancamento filtro = Lancamento.builder().usuario(usuario).build();
+		assertThat(repository.findAll(LancamentoSpecifications.filtro(filtro)))
+			.allMatch(l -> !Hibernate.isInitialized(l.getUsuario()));
+		entityManager.clear();
+		assertThat(repository.findById(lancamento.getId()))
+			.hasValueSatisfying(l -> assertThat(Hibernate.isInitialized(l.getUsuario())).isTrue());
+	}
+	
+	@Test
+	public void deveFiltrarPorTipoStatusEDescricaoSemInterpretarCuringas() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.CriarUsuario());
+		persistirLancamento(usuario, 2024, 1, "Conta de luz 100%");
+		persistirLancamento(usuario, 2024, 1, "Conta de luz 1000");
+		Lancamento efetivado = persistirLancamento(usuario, 2024, 2, "Conta de agua");
+		efetivado.setStatus(StatusLancamento.EFETIVADO);
+		entityManager.flush();
+		
+		Lancamento filtro = Lancamento.builder().usuario(usuario).descricao("100%").build();
+		assertThat(repository.findAll(LancamentoSpecifications.filtro(filtro)))
+			.extracting(Lancamento::getDescricao).containsExactly("Conta de luz 100%");
+		
+		filtro = Lancamento.builder().usuario(usuario).descricao("conta")
+				.tipo(TipoLancamento.RECEITA).status(StatusLancamento.EFETIVADO).build();
+		assertThat(repository.findAll(LancamentoSpecifications.filtro(filtro)))
+			.extracting(Lancamento::getDescricao).containsExactly("Conta de agua");
+	}
+	
+	@Test
+	public void deveAgruparOsTotaisDoUsuarioPorTipoStatusEMes() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.CriarUsuario());
+		persistirLancamento(usuario, 2024, 1, "Salario");
+		persistirLancamento(usuario, 2024, 1, "Bonus");
+		persistirLancamento(usuario, 2024, 2, "Salario");
+		persistirLancamento(usuario, 2023, 1, "Salario");
+		
+		List<ResumoLancamento> resumo = repository.obterResumoPorUsuarioEAno(usuario.getId(), 2024);
+		
+		assertThat(resumo).hasSize(2);
+		assertThat(resumo).allMatch(r -> r.getTipo() == TipoLancamento.RECEITA && r.getStatus() == StatusLancamento.PENDENTE);
+		assertThat(resumo).filteredOn(r -> r.getMes() == 1).singleElement()
+			.satisfies(r -> assertThat(r.getTotal()).isEqualByComparingTo("20"));
+		assertThat(repository.obterResumoPorUsuario(usuario.getId())).hasSize(3);
+	}
+	
+	@Test
+	public void deveIgnorarMesesForaDoIntervaloNoResumoAnual() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.CriarUsuario());
+		persistirLancamento(usuario, 2024, 3, "Salario");
+		persistirLancamento(usuario, 2024, 13, "Salario");
+		persistirLancamento(usuario, 2024, 0, "Salario");
+		
+		List<ResumoLancamento> resumo = repository.obterResumoPorUsuarioEAno(usuario.getId(), 2024);
+		
+		assertThat(resumo).extracting(ResumoLancamento::getMes).containsExactly(3);
+		try (Stream<ValorLancamento> valores = repository.consultarValoresPorUsuario(usuario.getId())) {
+			assertThat(valores).extracting(ValorLancamento::getMes).containsExactly(3);
+		}
+	}
+	
+	@Test
+	public void deveAtualizarOStatusApenasDosLancamentosFiltrados() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.CriarUsuario());
+		Lancamento janeiro = persistirLancamento(usuario, 2024, 1, "Salario");
+		Lancamento janeiroEfetivado = persistirLancamento(usuario, 2024, 1, "Bonus");
+		janeiroEfetivado.setStatus(StatusLancamento.EFETIVADO);
+		Lancamento fevereiro = persistirLancamento(usuario, 2024, 2, "Salario");
+		entityManager.flush();
+		
+		Lancamento filtro = Lancamento.builder().usuario(usuario).ano(2024).mes(1).build();
+		int atualizados = repository.atualizarStatus(LancamentoSpecifications.filtro(filtro)
+				.and(LancamentoSpecifications.statusDiferenteDe(StatusLancamento.EFETIVADO)), StatusLancamento.EFETIVADO);
+		entityManager.clear();
+		
+		assertThat(atualizados).isEqualTo(1);
+		assertThat(repository.findById(janeiro.getId()).get().getStatus()).isEqualTo(StatusLancamento.EFETIVADO);
+		assertThat(repository.findById(janeiro.getId()).get().getVersao()).isEqualTo(janeiro.getVersao() + 1);
+		assertThat(repository.findById(fevereiro.getId()).get().getStatus()).isEqualTo(StatusLancamento.PENDENTE);
+	}
+	
+	@Test
+	public void deveIncrementarAVersaoERejeitarAtualizacaoDesatualizada() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.CriarUsuario());
+		Lancamento lancamento = persistirLancamento(usuario, 2024, 3, "Aluguel");
+		entityManager.flush();
+		entityManager.clear();
+		
+		Lancamento primeiroDispositivo = repository.findById(lancamento.getId()).get();
+		entityManager.detach(primeiroDispositivo);
+		Lancamento segundoDispositivo = repository.findById(lancamento.getId()).get();
+		entityManager.detach(segundoDispositivo);
+		
+		primeiroDispositivo.setDescricao("Aluguel de março");
+		Lancamento atualizado = repository.saveAndFlush(primeiroDispositivo);
+		segundoDispositivo.setValor(BigDecimal.valueOf(15));
+		
+		assertThat(atualizado.getVersao()).isEqualTo(lancamento.getVersao() + 1);
+		assertThatThrownBy(() -> repository.saveAndFlush(segundoDispositivo))
+			.isInstanceOf(OptimisticLockingFailureException.class);
+	}
+	
+	private Lancamento persistirLancamento(Usuario usuario, int ano, int mes, String descricao) {
+		Lancamento lancamento = criarLancamento();
+		lancamento.setUsuario(usuario);
+		lancamento.setAno(ano);
+		lancamento.setMes(mes);
+		lancamento.setDescricao(descricao);
+		return entityManager.persist(lancamento);
+	}
+
 	private Lancamento criarEPersistirUmLancamento() {
 		Lancamento lancamento = criarLancamento();
 		entityManager.persist(lancamento);
@@ -0,0 +1,85 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dill.minhasfinancas.api.dto.RelatorioAnualDTO;
+import com.dill.minhasfinancas.api.dto.RelatorioMensalDTO;
+import com.dill.minhasfinancas.api.dto.RelatorioStatusDTO;
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class AnaliseLancamentoServiceTest {
+	
+	@Autowired
+	AnaliseLancamentoService service;
+	
+	@Autowired
+	LancamentoService lancamentoService;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Test
+	public void deveGerarORelatorioAnualComSaldoAcumuladoDosAnosAnteriores() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("relatorio@email.com").build());
+		lancamentoService.salvar(criarLancamento(usuario, 2023, 12, "100.00", TipoLancamento.RECEITA));
+		lancamentoService.salvar(criarLancamento(usuario, 2024, 1, "1500.50", TipoLancamento.RECEITA));
+		lancamentoService.salvar(criarLancamento(usuario, 2024, 1, "200.25", TipoLancamento.DESPESA));
+		Lancamento aluguel = lancamentoService.salvar(criarLancamento(usuario, 2024, 3, "800.00", TipoLancamento.DESPESA));
+		lancamentoService.atualizarStatus(aluguel, StatusLancamento.EFETIVADO);
+		lancamentoService.salvar(criarLancamento(usuario, 2025, 1, "50.00", TipoLancamento.DESPESA));
+		
+		//execução
+		RelatorioAnualDTO relatorio = service.gerarRelatorioAnual(usuario.getId(), 2024);
+		
+		//verificação
+		assertThat(relatorio.getSaldoInicial()).isEqualTo(Dinheiro.de("100.00"));
+		assertThat(relatorio.getSaldoFinal()).isEqualTo(Dinheiro.de("600.25"));
+		RelatorioMensalDTO janeiro = relatorio.getMeses().get(0);
+		assertThat(janeiro.getReceitas()).isEqualTo(Dinheiro.de("1500.50"));
+		assertThat(janeiro.getDespesas()).isEqualTo(Dinheiro.de("200.25"));
+		assertThat(janeiro.getSaldoAcumulado()).isEqualTo(Dinheiro.de("1400.25"));
+		assertThat(relatorio.getMeses().get(1).getSaldoAcumulado()).isEqualTo(Dinheiro.de("1400.25"));
+		assertThat(relatorio.getMeses().get(2).getSaldo()).isEqualTo(Dinheiro.de("-800.00"));
+		RelatorioStatusDTO efetivados = relatorio.getStatus().get(StatusLancamento.EFETIVADO.ordinal());
+		assertThat(efetivados.getDespesas()).isEqualTo(Dinheiro.de("800.00"));
+		assertThat(efetivados.getReceitas()).isEqualTo(Dinheiro.ZERO);
+	}
+	
+	@Test
+	public void deveRecarregarOsLancamentosDepoisDeUmaGravacao() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("relatorio-cache@email.com").build());
+		lancamentoService.salvar(criarLancamento(usuario, 2024, 5, "300.00", TipoLancamento.RECEITA));
+		RelatorioAnualDTO anterior = service.gerarRelatorioAnual(usuario.getId(), 2024);
+		
+		//execução
+		lancamentoService.salvar(criarLancamento(usuario, 2024, 5, "120.00", TipoLancamento.DESPESA));
+		RelatorioAnualDTO atual = service.gerarRelatorioAnual(usuario.getId(), 2024);
+		
+		//verificação
+		assertThat(anterior.getSaldoFinal()).isEqualTo(Dinheiro.de("300.00"));
+		assertThat(atual.getMeses().get(4).getDespesas()).isEqualTo(Dinheiro.de("120.00"));
+		assertThat(atual.getSaldoFinal()).isEqualTo(Dinheiro.de("180.00"));
+	}
+	
+	private Lancamento criarLancamento(Usuario usuario, int ano, int mes, String valor, TipoLancamento tipo) {
+		return Lancamento.builder().usuario(usuario).ano(ano).mes(mes).descricao("lancamento")
+				.valor(new BigDecimal(valor)).tipo(tipo).status(StatusLancamento.PENDENTE).build();
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dill.minhasfinancas.eventos.LancamentoEvento;
+import com.dill.minhasfinancas.model.entity.EventoLancamento;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoEventoLancamento;
+import com.dill.minhasfinancas.model.repository.EventoLancamentoRepository;
+import com.dill.minhasfinancas.model.repository.LancamentoRepositoryTest;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+import com.dill.minhasfinancas.service.impl.EventoLancamentoServiceImpl;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+public class EventoLancamentoServiceTest {
+	
+	@Autowired
+	EventoLancamentoService service;
+	
+	@Autowired
+	LancamentoService lancamentoService;
+	
+	@Autowired
+	EventoLancamentoRepository repository;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Autowired
+	ApplicationEvents eventos;
+	
+	@Autowired
+	TransactionTemplate transactionTemplate;
+	
+	@BeforeEach
+	public void setUp() {
+		service.despachar();
+		repository.deleteAll();
+	}
+	
+	@Test
+	public void deveGravarOsEventosNaTransacaoEDespacharEmLote() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("eventos@email.com").build());
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setAno(2024);
+		lancamento.setUsuario(usuario);
+		lancamentoService.salvar(lancamento);
+		lancamentoService.atualizarStatus(lancamento, StatusLancamento.EFETIVADO);
+		eventos.clear();
+		
+		//execução
+		int despachados = service.despachar();
+		
+		//verificação
+		assertThat(despachados).isEqualTo(2);
+		assertThat(eventos.stream(LancamentoEvento.class))
+			.extracting(LancamentoEvento::getTipo)
+			.containsExactly(TipoEventoLancamento.CRIADO, TipoEventoLancamento.STATUS_ALTERADO);
+		assertThat(eventos.stream(LancamentoEvento.class))
+			.allMatch(e -> e.getIdLancamento().equals(lancamento.getId()) && e.getIdUsuario().equals(usuario.getId()));
+		assertThat(service.despachar()).isZero();
+	}
+	
+	@Test
+	public void deveEsperarAntesDeTentarNovamenteUmEventoQueFalhou() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("eventos-falha@email.com").build());
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setAno(2024);
+		lancamento.setUsuario(usuario);
+		lancamentoService.salvar(lancamento);
+		ApplicationEventPublisher publicador = Mockito.mock(ApplicationEventPublisher.class);
+		Mockito.doThrow(new IllegalStateException("fila indisponível")).doNothing()
+			.when(publicador).publishEvent(Mockito.any(Object.class));
+		Instant inicio = Instant.parse("2024-01-10T10:00:00Z");
+		
+		//execução
+		int naFalha = despacharEm(publicador, inicio);
+		int antesDaEspera = despacharEm(publicador, inicio.plusSeconds(5));
+		int depoisDaEspera = despacharEm(publicador, inicio.plusSeconds(11));
+		
+		//verificação
+		assertThat(naFalha).isZero();
+		assertThat(antesDaEspera).isZero();
+		assertThat(depoisDaEspera).isEqualTo(1);
+		Mockito.verify(publicador, Mockito.times(2)).publishEvent(Mockito.any(Object.class));
+		assertThat(repository.findAll()).singleElement()
+			.extracting(EventoLancamento::getTentativas).isEqualTo(1);
+	}
+	
+	private int despacharEm(ApplicationEventPublisher publicador, Instant agora) {
+		return new EventoLancamentoServiceImpl(repository, publicador, transactionTemplate, 1, 5, Duration.ofDays(7),
+				Duration.ofSeconds(10), Duration.ofMinutes(10), Clock.fixed(agora, ZoneOffset.UTC)).despachar();
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dill.minhasfinancas.api.dto.ResultadoLoteDTO;
+import com.dill.minhasfinancas.importacao.FormatoExtrato;
+import com.dill.minhasfinancas.importacao.RegistroExtrato;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ImportacaoExtratoServiceTest {
+	
+	static final String OFX = "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\n"
+			+ "<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20240105120000[-3:BRT]<TRNAMT>-150,00<FITID>1<MEMO>Mercado &amp; Cia</STMTTRN>\n"
+			+ "<STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240110<TRNAMT>3000.00<FITID>2<NAME>Salario</STMTTRN>\n"
+			+ "<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20240110<TRNAMT>0<FITID>3<NAME>Tarifa zerada</STMTTRN>\n"
+			+ "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>";
+	
+	static final String CSV = "data;historico;valor\n05/02/2024;Padaria;-12,50\n05/02/2024;Padaria;-12,50\n";
+	
+	static final String CSV_FORA_DE_ORDEM = "data;historico;valor\n01/03/2024;Padaria;-10,00\n"
+			+ "02/03/2024;Farmacia;-40,00\n01/03/2024;Padaria;-10,00\n";
+	
+	@Autowired
+	ImportacaoExtratoService service;
+	
+	@Autowired
+	SaldoService saldoService;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Test
+	public void deveImportarUmExtratoOfxIgnorandoDuplicadosNaReimportacao() throws IOException {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("ofx@email.com").build());
+		
+		//execução
+		ResultadoLoteDTO primeira = service.importar(usuario, ler(FormatoExtrato.OFX, OFX));
+		ResultadoLoteDTO segunda = service.importar(usuario, ler(FormatoExtrato.OFX, OFX));
+		
+		//verificação
+		assertThat(primeira.getTotal()).isEqualTo(3);
+		assertThat(primeira.getInseridos()).isEqualTo(2);
+		assertThat(primeira.getErros()).singleElement().satisfies(erro -> assertThat(erro.getLinha()).isEqualTo(3));
+		assertThat(segunda.getInseridos()).isZero();
+		assertThat(segunda.getDuplicados()).isEqualTo(2);
+		assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("2850");
+	}
+	
+	@Test
+	public void deveImportarLancamentosIguaisDoMesmoDiaDeUmExtratoCsv() throws IOException {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("csv@email.com").build());
+		
+		//execução
+		ResultadoLoteDTO resultado = service.importar(usuario, ler(FormatoExtrato.CSV, CSV));
+		
+		//verificação
+		assertThat(resultado.getInseridos()).isEqualTo(2);
+		assertThat(service.importar(usuario, ler(FormatoExtrato.CSV, CSV)).getDuplicados()).isEqualTo(2);
+		assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("-25");
+	}
+	
+	@Test
+	public void deveImportarLancamentosIguaisDoMesmoDiaDeUmExtratoForaDeOrdem() throws IOException {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("csv-ordem@email.com").build());
+		
+		//execução
+		ResultadoLoteDTO resultado = service.importar(usuario, ler(FormatoExtrato.CSV, CSV_FORA_DE_ORDEM));
+		
+		//verificação
+		assertThat(resultado.getInseridos()).isEqualTo(3);
+		assertThat(resultado.getDuplicados()).isZero();
+		assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("-60");
+	}
+	
+	private Iterator<RegistroExtrato> ler(FormatoExtrato formato, String conteudo) throws IOException {
+		return formato.criarLeitor(new StringReader(conteudo));
+	}
+
+}
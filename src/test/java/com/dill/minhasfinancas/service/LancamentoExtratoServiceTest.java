@@ -0,0 +1,89 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dill.minhasfinancas.api.dto.LinhaExtratoDTO;
+import com.dill.minhasfinancas.api.dto.PaginaExtratoDTO;
+import com.dill.minhasfinancas.api.dto.PosicaoExtratoDTO;
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class LancamentoExtratoServiceTest {
+
+	@Autowired
+	LancamentoService service;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Test
+	public void deveContinuarOSaldoAcumuladoEntrePaginas() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("extrato@email.com").build());
+		salvar(usuario, 2024, 3, "100", TipoLancamento.RECEITA);
+		salvar(usuario, 2024, 1, "50", TipoLancamento.RECEITA);
+		salvar(usuario, 2024, 2, "30", TipoLancamento.DESPESA);
+
+		//execução
+		PaginaExtratoDTO primeira = service.consultarExtrato(usuario.getId(), null, null, 2);
+		PaginaExtratoDTO segunda = service.consultarExtrato(usuario.getId(), null, posicao(primeira), 2);
+
+		//verificação
+		assertThat(primeira.isPossuiProxima()).isTrue();
+		assertThat(primeira.getLancamentos()).extracting(LinhaExtratoDTO::getMes).containsExactly(1, 2);
+		assertThat(primeira.getLancamentos()).extracting(LinhaExtratoDTO::getSaldo)
+				.containsExactly(Dinheiro.de("50"), Dinheiro.de("20"));
+		assertThat(segunda.isPossuiProxima()).isFalse();
+		assertThat(segunda.getSaldoAnterior()).isEqualTo(Dinheiro.de("20"));
+		assertThat(segunda.getLancamentos()).extracting(LinhaExtratoDTO::getSaldo).containsExactly(Dinheiro.de("120"));
+		assertThat(segunda.getSaldoFinal()).isEqualTo(Dinheiro.de("120"));
+	}
+
+	@Test
+	public void deveRecalcularOSaldoQuandoOExtratoMudaEntrePaginas() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("extrato-versao@email.com").build());
+		salvar(usuario, 2024, 1, "10", TipoLancamento.RECEITA);
+		salvar(usuario, 2024, 5, "40", TipoLancamento.RECEITA);
+		PaginaExtratoDTO primeira = service.consultarExtrato(usuario.getId(), null, null, 1);
+		salvar(usuario, 2023, 12, "5", TipoLancamento.DESPESA);
+
+		//execução
+		PaginaExtratoDTO segunda = service.consultarExtrato(usuario.getId(), null, posicao(primeira), 1);
+		PaginaExtratoDTO doAno = service.consultarExtrato(usuario.getId(), 2024, null, 10);
+
+		//verificação
+		assertThat(segunda.getSaldoAnterior()).isEqualTo(Dinheiro.de("5"));
+		assertThat(segunda.getSaldoFinal()).isEqualTo(Dinheiro.de("45"));
+		assertThat(doAno.getSaldoAnterior()).isEqualTo(Dinheiro.de("-5"));
+		assertThat(doAno.getLancamentos()).hasSize(2);
+		assertThat(doAno.getSaldoFinal()).isEqualTo(Dinheiro.de("45"));
+	}
+
+	private void salvar(Usuario usuario, int ano, int mes, String valor, TipoLancamento tipo) {
+		service.salvar(Lancamento.builder().descricao("lancamento").ano(ano).mes(mes)
+				.valor(Dinheiro.de(valor)).tipo(tipo).usuario(usuario).build());
+	}
+
+	private PosicaoExtratoDTO posicao(PaginaExtratoDTO pagina) {
+		LinhaExtratoDTO ultima = pagina.getLancamentos().get(pagina.getLancamentos().size() - 1);
+		return PosicaoExtratoDTO.builder()
+				.ano(ultima.getAno())
+				.mes(ultima.getMes())
+				.id(ultima.getId())
+				.saldo(ultima.getSaldo())
+				.versao(pagina.getVersao())
+				.build();
+	}
+
+}
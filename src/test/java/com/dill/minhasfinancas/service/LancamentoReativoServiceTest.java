@@ -0,0 +1,74 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.LancamentoRepository;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class LancamentoReativoServiceTest {
+	
+	@Autowired
+	LancamentoReativoService service;
+	
+	@Autowired
+	LancamentoService lancamentoService;
+	
+	@Autowired
+	LancamentoRepository lancamentoRepository;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Test
+	public void deveConsultarOsLancamentosDoUsuarioEmOrdem() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("reativo@email.com").build());
+		lancamentoRepository.save(criarLancamento(usuario, 2024, 2, "Conta de luz", TipoLancamento.DESPESA));
+		lancamentoRepository.save(criarLancamento(usuario, 2024, 1, "Salario", TipoLancamento.RECEITA));
+		lancamentoRepository.save(criarLancamento(usuario, 2023, 12, "Conta de luz", TipoLancamento.DESPESA));
+		Lancamento filtro = Lancamento.builder().usuario(usuario).descricao("LUZ").build();
+		
+		//execução
+		List<LancamentoConsultaDTO> lancamentos = service.consultar(filtro).collectList().block();
+		
+		//verificação
+		assertThat(lancamentos).extracting(LancamentoConsultaDTO::getAno).containsExactly(2023, 2024);
+		assertThat(lancamentos).allMatch(l -> l.getUsuario().equals(usuario.getId()) && l.getTipo() == TipoLancamento.DESPESA);
+	}
+	
+	@Test
+	public void deveObterOSaldoMantidoPeloServicoDeLancamentos() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("saldo-reativo@email.com").build());
+		lancamentoService.salvar(criarLancamento(usuario, 2024, 1, "Salario", TipoLancamento.RECEITA));
+		lancamentoService.salvar(criarLancamento(usuario, 2024, 1, "Aluguel", TipoLancamento.DESPESA));
+		
+		//execução
+		BigDecimal saldo = service.obterSaldoPorUsuario(usuario.getId()).block();
+		
+		//verificação
+		assertThat(saldo).isEqualByComparingTo(lancamentoService.obterSaldoPorUsuario(usuario.getId()));
+		assertThat(service.obterSaldoPorUsuario(-1l).block()).isEqualByComparingTo(BigDecimal.ZERO);
+	}
+	
+	private Lancamento criarLancamento(Usuario usuario, int ano, int mes, String descricao, TipoLancamento tipo) {
+		return Lancamento.builder().usuario(usuario).ano(ano).mes(mes).descricao(descricao)
+				.valor(BigDecimal.valueOf(mes * 10)).tipo(tipo).status(StatusLancamento.PENDENTE).build();
+	}
+
+}
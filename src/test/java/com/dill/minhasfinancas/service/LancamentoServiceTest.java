@@ -11,19 +11,28 @@ import java.util.Optional;
 import org.assertj.core.api.Assertions;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
-import org.springframework.data.domain.Example;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.dill.minhasfinancas.api.dto.ConteudoVersionadoDTO;
+import com.dill.minhasfinancas.api.dto.LancamentoConsultaDTO;
+import com.dill.minhasfinancas.api.dto.ResultadoLoteDTO;
 import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.exceptions.VersaoDesatualizadaException;
+import com.dill.minhasfinancas.model.Dinheiro;
 import com.dill.minhasfinancas.model.entity.Lancamento;
 import com.dill.minhasfinancas.model.entity.Usuario;
 import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoEventoLancamento;
 import com.dill.minhasfinancas.model.repository.LancamentoRepository;
 import com.dill.minhasfinancas.model.repository.LancamentoRepositoryTest;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
 import com.dill.minhasfinancas.service.impl.LancamentoServiceImpl;
 
 
@@ -34,6 +43,14 @@ public class LancamentoServiceTest {
 	LancamentoServiceImpl service;
 	@MockBean
 	LancamentoRepository repository;
+	@MockBean
+	SaldoService saldoService;
+	@MockBean
+	ParticaoLancamentoService particaoService;
+	@MockBean
+	EventoLancamentoService eventoService;
+	@Autowired
+	UsuarioRepository usuarioRepository;
 	
 	@Test
 	public void deveSalvarUmLancamento() {  
@@ -54,6 +71,25 @@ public class LancamentoServiceTest {
 		
 	}
 	
+	@Test
+	public void deveGarantirAParticaoDoMesAntesDeSalvar() {
+		//cenário
+		Lancamento lancamentoASalvar = LancamentoRepositoryTest.criarLancamento();
+		lancamentoASalvar.setAno(2025);
+		lancamentoASalvar.setMes(7);
+		Mockito.doNothing().when(service).validar(lancamentoASalvar);
+		Mockito.when(repository.save(lancamentoASalvar)).thenReturn(lancamentoASalvar);
+		
+		//execução
+		service.salvar(lancamentoASalvar);
+		
+		//verificação
+		InOrder ordem = Mockito.inOrder(particaoService, repository);
+		ordem.verify(particaoService).garantirParticao(2025, 7);
+		ordem.verify(repository).save(lancamentoASalvar);
+		Mockito.verify(eventoService).registrar(TipoEventoLancamento.CRIADO, lancamentoASalvar);
+	}
+	
 	@Test
 	public void naoDeveSalvarUmLancamentoQuandoHouverErroDeValidacao() {
 		//cenário
@@ -66,6 +102,31 @@ public class LancamentoServiceTest {
 		
 	}
 	
+	@Test
+	public void deveSalvarLancamentosEmLoteInformandoOsErrosPorLinha() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("lote@email.com").build());
+		Lancamento valido = LancamentoRepositoryTest.criarLancamento();
+		valido.setAno(2024);
+		Lancamento semDescricao = LancamentoRepositoryTest.criarLancamento();
+		semDescricao.setAno(2024);
+		semDescricao.setDescricao(null);
+		Lancamento outroValido = LancamentoRepositoryTest.criarLancamento();
+		outroValido.setAno(2024);
+		
+		//execução
+		ResultadoLoteDTO resultado = service.salvarEmLote(usuario, Arrays.asList(valido, semDescricao, outroValido).iterator());
+		
+		//verificação
+		assertThat(resultado.getTotal()).isEqualTo(3);
+		assertThat(resultado.getInseridos()).isEqualTo(2);
+		assertThat(resultado.getErros()).singleElement()
+			.satisfies(erro -> assertThat(erro.getLinha()).isEqualTo(2));
+		assertThat(valido.getId()).isNotNull();
+		Mockito.verify(saldoService).acumular(usuario.getId(), Dinheiro.de("20"), Dinheiro.ZERO);
+		Mockito.verify(repository, Mockito.never()).save(Mockito.any(Lancamento.class));
+	}
+	
 	@Test
 	public void deveAtualizarUmLancamento() {  
 		//cenário
@@ -127,7 +188,7 @@ public class LancamentoServiceTest {
 		lancamento.setId(1l);
 		
 		List<Lancamento> lista = Arrays.asList(lancamento);
-		Mockito.when( repository.findAll(Mockito.any(Example.class)) ).thenReturn(lista);
+		Mockito.when( repository.findAll(Mockito.any(Specification.class)) ).thenReturn(lista);
 		
 		//execução
 		List<Lancamento> resultado = service.buscar(lancamento);
@@ -145,17 +206,114 @@ public class LancamentoServiceTest {
 		//cnário
 		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
 		lancamento.setId(1l);
+		lancamento.setAno(2024);
+		lancamento.setUsuario(Usuario.builder().id(2l).build());
 		lancamento.setStatus(StatusLancamento.PENDENTE);
 		
 		StatusLancamento novoStatus = StatusLancamento.EFETIVADO;
-		Mockito.doReturn(lancamento).when(service).atualizar(lancamento);
+		Mockito.when(repository.save(lancamento)).thenReturn(lancamento);
 		
 		//execução
 		service.atualizarStatus(lancamento, novoStatus);
 		
 		//verificações
 		Assertions.assertThat(lancamento.getStatus()).isEqualTo(novoStatus);
-		Mockito.verify(service).atualizar(lancamento);
+		Mockito.verify(repository).save(lancamento);
+		Mockito.verify(eventoService).registrar(TipoEventoLancamento.STATUS_ALTERADO, lancamento);
+		Mockito.verify(eventoService, Mockito.never()).registrar(Mockito.eq(TipoEventoLancamento.ATUALIZADO), Mockito.any());
+	}
+	
+	@Test
+	public void naoDeveAtualizarStatusEmLoteComVersaoDesatualizada() {
+		//cenário
+		Lancamento filtro = Lancamento.builder().usuario(Usuario.builder().id(1l).build()).ano(2024).mes(1).build();
+		Mockito.when(saldoService.bloquearVersao(1l)).thenReturn(8l);
+		
+		//execução
+		Throwable erro = catchThrowable(() -> service.atualizarStatusEmLote(filtro, null, StatusLancamento.EFETIVADO, 7l));
+		
+		//verificação
+		assertThat(erro).isInstanceOf(VersaoDesatualizadaException.class);
+		Mockito.verify(repository, Mockito.never()).atualizarStatus(Mockito.any(), Mockito.any());
+		Mockito.verify(saldoService, Mockito.never()).incrementarVersao(Mockito.anyLong());
+	}
+	
+	@Test
+	public void deveBloquearAVersaoMesmoSemVersaoEsperadaNoStatusEmLote() {
+		//cenário
+		Lancamento filtro = Lancamento.builder().usuario(Usuario.builder().id(1l).build()).ano(2024).mes(1).build();
+		
+		//execução
+		ConteudoVersionadoDTO<Integer> atualizados = service.atualizarStatusEmLote(filtro, null, StatusLancamento.EFETIVADO, null);
+		
+		//verificação
+		assertThat(atualizados.getConteudo()).isZero();
+		assertThat(atualizados.getVersao()).isZero();
+		InOrder ordem = Mockito.inOrder(saldoService, repository);
+		ordem.verify(saldoService).bloquearVersao(1l);
+		ordem.verify(repository).consultar(Mockito.any(), Mockito.any(), Mockito.eq(0));
+	}
+	
+	@Test
+	public void deveAtualizarStatusEmLoteEIncrementarAVersao() {
+		//cenário
+		Usuario usuario = Usuario.builder().id(1l).build();
+		Lancamento filtro = Lancamento.builder().usuario(usuario).ano(2024).mes(1).build();
+		Mockito.when(saldoService.bloquearVersao(1l)).thenReturn(7l);
+		Mockito.when(repository.consultar(Mockito.any(), Mockito.any(), Mockito.eq(0)))
+			.thenReturn(List.of(LancamentoConsultaDTO.builder().id(3l).ano(2024).mes(1).build()));
+		Mockito.when(repository.atualizarStatus(Mockito.any(), Mockito.eq(StatusLancamento.CANCELADO))).thenReturn(1);
+		
+		//execução
+		ConteudoVersionadoDTO<Integer> atualizados = service.atualizarStatusEmLote(filtro, List.of(3l), StatusLancamento.CANCELADO, 7l);
+		
+		//verificação
+		assertThat(atualizados.getConteudo()).isEqualTo(1);
+		assertThat(atualizados.getVersao()).isEqualTo(8l);
+		Mockito.verify(eventoService).registrar(Mockito.eq(TipoEventoLancamento.STATUS_ALTERADO), Mockito.any(Lancamento.class));
+		Mockito.verify(saldoService).incrementarVersao(1l);
+	}
+	
+	@Test
+	public void deveAtualizarParcialmenteApenasOsCamposInformados() {
+		//cenário
+		Lancamento existente = LancamentoRepositoryTest.criarLancamento();
+		existente.setId(1l);
+		existente.setAno(2024);
+		existente.setVersao(3l);
+		existente.setUsuario(Usuario.builder().id(2l).build());
+		Mockito.when(repository.findById(1l)).thenReturn(Optional.of(existente));
+		
+		//execução
+		Lancamento lancamento = service.atualizarParcialmente(1l, 3l, alvo -> {
+			alvo.setDescricao("nova descrição");
+			alvo.setMes(11);
+		});
+		
+		//verificação
+		assertThat(lancamento.getDescricao()).isEqualTo("nova descrição");
+		assertThat(lancamento.getMes()).isEqualTo(11);
+		Mockito.verifyNoInteractions(particaoService);
+		assertThat(lancamento.getValor()).isEqualTo(Dinheiro.de("10"));
+		Mockito.verify(saldoService).incrementarVersao(2l);
+		Mockito.verify(saldoService, Mockito.never()).estornar(Mockito.any());
+		Mockito.verify(repository, Mockito.never()).save(Mockito.any());
+	}
+	
+	@Test
+	public void naoDeveAtualizarParcialmenteComVersaoDesatualizada() {
+		//cenário
+		Lancamento existente = LancamentoRepositoryTest.criarLancamento();
+		existente.setId(1l);
+		existente.setVersao(4l);
+		Mockito.when(repository.findById(1l)).thenReturn(Optional.of(existente));
+		
+		//execução
+		Throwable erro = catchThrowable(() -> service.atualizarParcialmente(1l, 3l, alvo -> alvo.setDescricao("outra")));
+		
+		//verificação
+		assertThat(erro).isInstanceOf(VersaoDesatualizadaException.class);
+		assertThat(existente.getDescricao()).isEqualTo("lancamento qualquer");
 	}
 	
 	@Test
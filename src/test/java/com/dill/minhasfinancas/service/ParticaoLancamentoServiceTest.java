@@ -0,0 +1,61 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.dill.minhasfinancas.service.impl.ParticaoLancamentoServiceImpl;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ParticaoLancamentoServiceTest {
+	
+	static final String CRIAR_PARTICAO = "SELECT financas.criar_particao_lancamento(?, ?)";
+	
+	@Autowired
+	ParticaoLancamentoService service;
+	
+	@Test
+	public void naoDeveCriarParticoesQuandoOBancoNaoForParticionado() {
+		service.garantirParticao(2025, 7);
+		
+		assertThat(service.manter()).isZero();
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deveTentarDeNovoAParticaoQueNaoPodeSerCriada() {
+		//cenário
+		JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+		PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+		Mockito.when(transactionManager.getTransaction(Mockito.any())).thenReturn(new SimpleTransactionStatus());
+		Mockito.when(jdbcTemplate.execute(Mockito.any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.startsWith("SELECT EXISTS"), Mockito.eq(Boolean.class))).thenReturn(true);
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.eq(CRIAR_PARTICAO), Mockito.eq(Boolean.class), Mockito.eq(2025), Mockito.eq(7)))
+			.thenThrow(new CannotAcquireLockException("lock_timeout"))
+			.thenReturn(true);
+		ParticaoLancamentoService particaoService = new ParticaoLancamentoServiceImpl(jdbcTemplate, transactionManager,
+				Duration.ofSeconds(1), 3);
+		
+		//execução
+		particaoService.garantirParticao(2025, 7);
+		particaoService.garantirParticao(2025, 7);
+		particaoService.garantirParticao(2025, 7);
+		
+		//verificação
+		Mockito.verify(jdbcTemplate, Mockito.times(2))
+			.queryForObject(Mockito.eq(CRIAR_PARTICAO), Mockito.eq(Boolean.class), Mockito.eq(2025), Mockito.eq(7));
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dill.minhasfinancas.exceptions.RegraNegocioException;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.RecorrenciaLancamento;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.StatusLancamento;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.LancamentoRepository;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class RecorrenciaLancamentoServiceTest {
+	
+	@Autowired
+	RecorrenciaLancamentoService service;
+	
+	@Autowired
+	LancamentoService lancamentoService;
+	
+	@Autowired
+	LancamentoRepository lancamentoRepository;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Test
+	public void deveGerarAsOcorrenciasDoIntervaloUmaUnicaVez() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("recorrencia@email.com").build());
+		Lancamento aluguel = lancamentoService.salvar(Lancamento.builder().descricao("aluguel").ano(2024).mes(1)
+				.valor(BigDecimal.valueOf(1500)).tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+		RecorrenciaLancamento recorrencia = service.criar(aluguel, 2, LocalDate.of(2024, 6, 30));
+		
+		//execução
+		int gerados = service.gerar(YearMonth.of(2024, 1), YearMonth.of(2024, 12));
+		int geradosNovamente = service.gerar(YearMonth.of(2024, 1), YearMonth.of(2024, 12));
+		
+		//verificação
+		assertThat(gerados).isEqualTo(2);
+		assertThat(geradosNovamente).isZero();
+		List<Lancamento> ocorrencias = ocorrencias(recorrencia);
+		assertThat(ocorrencias).extracting(Lancamento::getMes).containsExactlyInAnyOrder(1, 3, 5);
+		assertThat(ocorrencias).allMatch(l -> l.getStatus() == StatusLancamento.PENDENTE && l.getAno() == 2024);
+		assertThat(lancamentoService.obterSaldoPorUsuario(usuario.getId())).isEqualByComparingTo("-4500");
+	}
+	
+	@Test
+	public void naoDeveRecriarUmaOcorrenciaExcluida() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("recorrencia-exclusao@email.com").build());
+		Lancamento internet = lancamentoService.salvar(Lancamento.builder().descricao("internet").ano(2024).mes(1)
+				.valor(BigDecimal.valueOf(100)).tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+		RecorrenciaLancamento recorrencia = service.criar(internet, 1, LocalDate.of(2024, 3, 31));
+		service.gerar(YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+		lancamentoService.deletar(ocorrencias(recorrencia).stream().filter(l -> l.getMes() == 2).findFirst().get());
+		
+		//execução
+		int gerados = service.gerar(YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+		
+		//verificação
+		assertThat(gerados).isZero();
+		assertThat(ocorrencias(recorrencia)).extracting(Lancamento::getMes).containsExactlyInAnyOrder(1, 3);
+	}
+	
+	@Test
+	public void deveManterAOcorrenciaMovidaSemGerarOutraNoMesOriginal() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("recorrencia-movida@email.com").build());
+		Lancamento academia = lancamentoService.salvar(Lancamento.builder().descricao("academia").ano(2024).mes(1)
+				.valor(BigDecimal.valueOf(90)).tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+		RecorrenciaLancamento recorrencia = service.criar(academia, 1, LocalDate.of(2024, 4, 30));
+		service.gerar(YearMonth.of(2024, 1), YearMonth.of(2024, 2));
+		Lancamento fevereiro = ocorrencias(recorrencia).stream().filter(l -> l.getMes() == 2).findFirst().get();
+		lancamentoService.atualizarParcialmente(fevereiro.getId(), null, l -> l.setMes(4));
+		
+		//execução
+		int gerados = service.gerar(YearMonth.of(2024, 1), YearMonth.of(2024, 4));
+		
+		//verificação
+		assertThat(gerados).isEqualTo(1);
+		assertThat(ocorrencias(recorrencia)).extracting(Lancamento::getMes).containsExactlyInAnyOrder(1, 3, 4);
+		assertThat(lancamentoService.obterSaldoPorUsuario(usuario.getId())).isEqualByComparingTo("-270");
+	}
+	
+	@Test
+	public void naoDeveCriarRecorrenciaComIntervaloInvalido() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("intervalo@email.com").build());
+		Lancamento salario = lancamentoService.salvar(Lancamento.builder().descricao("salario").ano(2024).mes(1)
+				.valor(BigDecimal.valueOf(5000)).tipo(TipoLancamento.RECEITA).usuario(usuario).build());
+		
+		//execução
+		Throwable erro = catchThrowable(() -> service.criar(salario, 0, null));
+		
+		//verificação
+		assertThat(erro).isInstanceOf(RegraNegocioException.class).hasMessage("Informe um intervalo entre 1 e 120 meses");
+	}
+	
+	private List<Lancamento> ocorrencias(RecorrenciaLancamento recorrencia) {
+		return lancamentoRepository.findAll().stream()
+				.filter(l -> recorrencia.getId().equals(l.getIdRecorrencia())).toList();
+	}
+
+}
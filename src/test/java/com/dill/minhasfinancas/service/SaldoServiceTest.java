@@ -0,0 +1,98 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dill.minhasfinancas.model.Dinheiro;
+import com.dill.minhasfinancas.model.entity.Lancamento;
+import com.dill.minhasfinancas.model.entity.SaldoUsuario;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.enums.TipoLancamento;
+import com.dill.minhasfinancas.model.repository.LancamentoRepository;
+import com.dill.minhasfinancas.model.repository.LancamentoRepositoryTest;
+import com.dill.minhasfinancas.model.repository.SaldoUsuarioRepository;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SaldoServiceTest {
+	
+	@Autowired
+	SaldoService service;
+	
+	@Autowired
+	SaldoUsuarioRepository repository;
+	
+	@Autowired
+	LancamentoRepository lancamentoRepository;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Test
+	public void deveRegistrarEEstornarLancamentosNoSaldo() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("saldo@email.com").build());
+		Lancamento receita = criarLancamento(usuario, TipoLancamento.RECEITA, 100);
+		Lancamento despesa = criarLancamento(usuario, TipoLancamento.DESPESA, 30);
+		
+		//execução
+		service.registrar(receita);
+		service.registrar(despesa);
+		service.estornar(despesa);
+		service.registrar(criarLancamento(usuario, TipoLancamento.DESPESA, 45));
+		
+		//verificação
+		assertThat(service.obterSaldo(usuario.getId())).isEqualByComparingTo("55");
+	}
+	
+	@Test
+	public void deveIncrementarAVersaoACadaMovimentacao() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("versao@email.com").build());
+		Lancamento receita = criarLancamento(usuario, TipoLancamento.RECEITA, 100);
+		
+		//execução
+		long versaoInicial = service.obterVersao(usuario.getId());
+		service.registrar(receita);
+		long versaoAposRegistrar = service.obterVersao(usuario.getId());
+		service.estornar(receita);
+		
+		//verificação
+		assertThat(versaoInicial).isZero();
+		assertThat(versaoAposRegistrar).isEqualTo(SaldoUsuario.VERSAO_INICIAL);
+		assertThat(service.obterVersao(usuario.getId())).isEqualTo(versaoAposRegistrar + 1);
+	}
+	
+	@Test
+	public void deveReconciliarOSaldoComOsLancamentos() {
+		//cenário
+		Usuario usuario = usuarioRepository.save(Usuario.builder().nome("usuario").email("reconciliar@email.com").build());
+		lancamentoRepository.save(criarLancamento(usuario, TipoLancamento.RECEITA, 200));
+		lancamentoRepository.save(criarLancamento(usuario, TipoLancamento.DESPESA, 50));
+		repository.save(new SaldoUsuario(usuario.getId(), Dinheiro.de("1"), Dinheiro.de("1")));
+		
+		//execução
+		int corrigidos = service.reconciliar();
+		
+		//verificação
+		assertThat(corrigidos).isGreaterThanOrEqualTo(1);
+		assertThat(service.obterSaldo(usuario.getId())).isEqualByComparingTo("150");
+		assertThat(service.reconciliar()).isZero();
+	}
+	
+	private Lancamento criarLancamento(Usuario usuario, TipoLancamento tipo, int valor) {
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setUsuario(usuario);
+		lancamento.setTipo(tipo);
+		lancamento.setValor(BigDecimal.valueOf(valor));
+		return lancamento;
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.dill.minhasfinancas.exceptions.ServicoSobrecarregadoException;
+import com.dill.minhasfinancas.service.impl.SenhaServiceImpl;
+
+public class SenhaServiceTest {
+	
+	SenhaServiceImpl service = new SenhaServiceImpl(4, 100, Duration.ofMinutes(5), 1, 10);
+	
+	@AfterEach
+	public void encerrar() {
+		service.destroy();
+	}
+	
+	@Test
+	public void deveVerificarASenhaCodificadaInclusiveQuandoEstiverEmCache() {
+		//cenário
+		String hash = service.codificar("senha");
+		
+		//ação e verificação
+		assertThat(service.verificar("senha", hash)).isTrue();
+		assertThat(service.verificar("senha", hash)).isTrue();
+		assertThat(service.verificar("outra", hash)).isFalse();
+		assertThat(service.precisaMigrar(hash)).isFalse();
+	}
+	
+	@Test
+	public void deveAceitarSenhaLegadaEmTextoPuroEIndicarMigracao() {
+		assertThat(service.verificar("senha", "senha")).isTrue();
+		assertThat(service.verificar("123", "senha")).isFalse();
+		assertThat(service.precisaMigrar("senha")).isTrue();
+	}
+	
+	@Test
+	public void deveIndicarMigracaoQuandoOCustoConfiguradoAumentar() {
+		//cenário
+		String hash = service.codificar("senha");
+		SenhaServiceImpl serviceComCustoMaior = new SenhaServiceImpl(5, 100, Duration.ofMinutes(5), 1, 10);
+		
+		//verificação
+		assertThat(serviceComCustoMaior.precisaMigrar(hash)).isTrue();
+		serviceComCustoMaior.destroy();
+	}
+	
+	@Test
+	public void deveRecusarQuandoAFilaDoExecutorEstiverCheia() throws Exception {
+		//cenário
+		SenhaServiceImpl serviceSemFila = new SenhaServiceImpl(14, 100, Duration.ofMinutes(5), 1, 1);
+		Thread ocupada = new Thread(() -> serviceSemFila.codificar("senha"));
+		Thread enfileirada = new Thread(() -> serviceSemFila.codificar("senha"));
+		ocupada.start();
+		Thread.sleep(100);
+		enfileirada.start();
+		Thread.sleep(100);
+		
+		//verificação
+		assertThrows(ServicoSobrecarregadoException.class, () -> serviceSemFila.codificar("senha"));
+		serviceSemFila.destroy();
+	}
+}
@@ -0,0 +1,83 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.dill.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.service.impl.TokenServiceImpl;
+
+public class TokenServiceTest {
+	
+	static final String SEGREDO = Base64.getEncoder().encodeToString(new byte[32]);
+	static final Instant AGORA = Instant.parse("2024-01-01T10:00:00Z");
+	
+	TokenServiceImpl service = new TokenServiceImpl(SEGREDO, Duration.ofHours(1), Clock.fixed(AGORA, ZoneOffset.UTC));
+	
+	@Test
+	public void deveObterOUsuarioDoTokenGerado() {
+		//cenário
+		Usuario usuario = Usuario.builder().id(42l).nome("Fulano \"da\" Silva").email("fulano@email.com").build();
+		
+		//execução
+		Optional<UsuarioAutenticadoDTO> autenticado = service.validar(service.gerar(usuario));
+		
+		//verificação
+		assertThat(autenticado).isPresent();
+		assertThat(autenticado.get().getId()).isEqualTo(42l);
+		assertThat(autenticado.get().getNome()).isEqualTo("Fulano \"da\" Silva");
+		assertThat(autenticado.get().getEmail()).isEqualTo("fulano@email.com");
+	}
+	
+	@Test
+	public void deveRecusarTokenAdulteradoOuAssinadoComOutroSegredo() {
+		//cenário
+		String token = service.gerar(Usuario.builder().id(1l).email("a@email.com").build());
+		String[] partes = token.split("\\.");
+		String outroPayload = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("{\"sub\":\"2\",\"exp\":9999999999}".getBytes());
+		byte[] outroSegredo = new byte[32];
+		Arrays.fill(outroSegredo, (byte) 7);
+		TokenServiceImpl outroService = new TokenServiceImpl(Base64.getEncoder().encodeToString(outroSegredo),
+				Duration.ofHours(1), Clock.fixed(AGORA, ZoneOffset.UTC));
+		
+		//verificação
+		assertThat(service.validar(partes[0] + "." + outroPayload + "." + partes[2])).isEmpty();
+		assertThat(service.validar(token.substring(0, token.length() - 2))).isEmpty();
+		assertThat(outroService.validar(token)).isEmpty();
+		assertThat(service.validar("abc")).isEmpty();
+		assertThat(service.validar(null)).isEmpty();
+	}
+	
+	@Test
+	public void deveRecusarConteudoAssinadoAdulterado() {
+		//cenário
+		String assinado = service.assinar("2024:1:10:500");
+		
+		//verificação
+		assertThat(service.verificarAssinatura(assinado)).contains("2024:1:10:500");
+		assertThat(service.verificarAssinatura(assinado.replace("500", "900"))).isEmpty();
+		assertThat(service.verificarAssinatura("2024:1:10:500")).isEmpty();
+		assertThat(service.validar(assinado)).isEmpty();
+	}
+	
+	@Test
+	public void deveRecusarTokenExpirado() {
+		//cenário
+		String token = service.gerar(Usuario.builder().id(1l).email("a@email.com").build());
+		TokenServiceImpl depoisDaValidade = new TokenServiceImpl(SEGREDO, Duration.ofHours(1),
+				Clock.fixed(AGORA.plus(Duration.ofHours(2)), ZoneOffset.UTC));
+		
+		//verificação
+		assertThat(depoisDaValidade.validar(token)).isEmpty();
+	}
+}
@@ -0,0 +1,54 @@
+package com.dill.minhasfinancas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dill.minhasfinancas.model.entity.Usuario;
+import com.dill.minhasfinancas.model.repository.UsuarioRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.cache.type=caffeine")
+@ActiveProfiles("test")
+public class UsuarioCacheTest {
+	
+	@Autowired
+	UsuarioService service;
+	
+	@Autowired
+	UsuarioRepository repository;
+	
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+	
+	@Test
+	public void deveGuardarOUsuarioEmCacheAtualizadoQuandoForSalvoNovamente() {
+		//cenário
+		Usuario usuario = repository.save(Usuario.builder().nome("usuario").email("cache@email.com").build());
+		service.obterPorId(usuario.getId());
+		repository.findByEmail("cache@email.com");
+		
+		//execução
+		usuario.setNome("alterado");
+		repository.save(usuario);
+		
+		//verificação
+		assertThat(entityManagerFactory.getCache().contains(Usuario.class, usuario.getId())).isTrue();
+		assertThat(service.obterPorId(usuario.getId()).get().getNome()).isEqualTo("alterado");
+		assertThat(repository.findByEmail("cache@email.com").get().getNome()).isEqualTo("alterado");
+	}
+	
+	@Test
+	public void deveInvalidarAVerificacaoDeEmailAoCadastrarUmUsuario() {
+		assertThat(repository.existsByEmail("novo@email.com")).isFalse();
+		
+		service.salvarUsuario(Usuario.builder().nome("novo").email("novo@email.com").build());
+		
+		assertThat(repository.existsByEmail("novo@email.com")).isTrue();
+	}
+
+}
@@ -83,6 +83,36 @@ public class UsuarioServiceTest {
 			assertNotNull(result);
 ;
 	}
+	@Test
+	public void deveMigrarASenhaEmTextoPuroAoAutenticar() {
+		//cenário
+		String senha = "senha123";
+		Usuario usuario = Usuario.builder().email("email@email.com").senha(senha).id(1l).build();
+		Mockito.when(repository.findByEmail("email@email.com")).thenReturn(Optional.of(usuario));
+		
+		//ação
+		service.autenticar("email@email.com", senha);
+		
+		//verificação
+		Mockito.verify(repository).save(usuario);
+		assertThat(usuario.getSenha()).startsWith("$2a$").isNotEqualTo(senha);
+		assertDoesNotThrow(() -> service.autenticar("email@email.com", senha));
+		Mockito.verify(repository, Mockito.times(1)).save(usuario);
+	}
+	
+	@Test
+	public void deveSalvarOUsuarioComASenhaCodificada() {
+		//cenário
+		Mockito.when(repository.existsByEmail(Mockito.anyString())).thenReturn(false);
+		Mockito.when(repository.save(Mockito.any(Usuario.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+		
+		//ação
+		Usuario usuarioSalvo = service.salvarUsuario(Usuario.builder().email("novo@email.com").senha("senha").build());
+		
+		//verificação
+		assertThat(usuarioSalvo.getSenha()).isNotEqualTo("senha").startsWith("$2a$");
+	}
+	
 	//deveLancarErroQuandoNaoEncontrarUsuarioCadastradoComOEmailInformado
 	@Test
 	public void itShouldThownAnErrorWhenItDoesNotFindARegisterdUserUsingTheEmailProvided () {